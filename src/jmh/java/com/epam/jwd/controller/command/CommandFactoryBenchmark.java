@@ -0,0 +1,83 @@
+package com.epam.jwd.controller.command;
+
+import com.epam.jwd.context.AppContext;
+import com.epam.jwd.context.CommandType;
+import com.epam.jwd.controller.command.impl.ErrorCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link CommandFactory} lookup against previous
+ * stream lookup over {@link CommandType#values()}. Commands open
+ * connection pool on loading, so database must be available.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandFactoryBenchmark {
+
+    @Param({"known", "unknown"})
+    String keys;
+
+    String[] commands;
+
+    @Setup
+    public void setUp() {
+        AppContext.getInstance().initProperties();
+        commands = Arrays.stream(CommandType.values())
+                .map(CommandType::getUrl)
+                .map(url -> "known".equals(keys) ? url : url + "-unknown")
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Lookup of {@link CommandFactory} before dispatch table.
+     *
+     * @param command {@link String} url
+     * @return {@link Command} command
+     */
+    private static Command streamLookup(final String command) {
+        Optional<CommandType> optional =
+                Arrays.stream(CommandType.values())
+                        .filter(enumCommand -> enumCommand.getUrl().equals(command)).findFirst();
+        if (optional.isPresent()) {
+            return optional.get().getCommand();
+        }
+        return new ErrorCommand();
+    }
+
+    @Benchmark
+    public void mapLookup(Blackhole blackhole) {
+        for (String command : commands) {
+            blackhole.consume(CommandFactory.getCommand(command));
+        }
+    }
+
+    @Benchmark
+    public void streamLookup(Blackhole blackhole) {
+        for (String command : commands) {
+            blackhole.consume(streamLookup(command));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.epam.jwd.controller.command.impl;
+
+import com.epam.jwd.controller.command.RequestContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of reading search form parameters through {@link RequestContext}.
+ * Run with "-prof gc" to see garbage per request (gc.alloc.rate.norm).
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestContextBenchmark {
+
+    private static final String[] NAMES = {"userId", "userLogin", "userFirstname", "userLastname", "userEmail",
+            "userAverageScore", "userRussianScore", "userMathScore", "userPhysicsScore", "userFacultyId"};
+
+    HttpServletRequest request;
+
+    /**
+     * Request with fixed parameters, other methods are not supported.
+     */
+    private static final class ParameterRequest extends HttpServletRequestWrapper {
+
+        private final Map<String, String[]> parameterMap;
+
+        private ParameterRequest(Map<String, String[]> parameterMap) {
+            super((HttpServletRequest) Proxy.newProxyInstance(HttpServletRequest.class.getClassLoader(),
+                    new Class[]{HttpServletRequest.class}, (proxy, method, args) -> {
+                        throw new UnsupportedOperationException(method.getName());
+                    }));
+            this.parameterMap = Collections.unmodifiableMap(parameterMap);
+        }
+
+        @Override
+        public String getParameter(String name) {
+            String[] values = parameterMap.get(name);
+            return values == null ? null : values[0];
+        }
+
+        @Override
+        public Map<String, String[]> getParameterMap() {
+            return parameterMap;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Map<String, String[]> parameterMap = new LinkedHashMap<>();
+        parameterMap.put("command", new String[]{"find-users-by-criteria"});
+        for (String name : NAMES) {
+            parameterMap.put(name, new String[]{""});
+        }
+        parameterMap.put("userLastname", new String[]{"Semenko"});
+        parameterMap.put("userMathScore", new String[]{"90"});
+        request = new ParameterRequest(parameterMap);
+    }
+
+    /**
+     * Copy of parameter map as it was built before on every call.
+     *
+     * @param request {@link HttpServletRequest} request
+     * @return {@link Map<>} new map
+     */
+    private static Map<String, String> copyParamMap(HttpServletRequest request) {
+        Map<String, String[]> stringMap = request.getParameterMap();
+        Map<String, String> map = new HashMap<>();
+        for (String parameterName : stringMap.keySet()) {
+            String[] values = stringMap.get(parameterName);
+            if (values != null && values.length > 0) {
+                map.put(parameterName, values[0]);
+            }
+        }
+        return map;
+    }
+
+    @Benchmark
+    public void copyPerAccess(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(copyParamMap(request).get(name));
+        }
+    }
+
+    @Benchmark
+    public void copyOnce(Blackhole blackhole) {
+        Map<String, String> paramMap = copyParamMap(request);
+        for (String name : NAMES) {
+            blackhole.consume(paramMap.get(name));
+        }
+    }
+
+    @Benchmark
+    public void memoisedParamMap(Blackhole blackhole) {
+        RequestContext requestContext = new CustomRequestContext(request);
+        for (String name : NAMES) {
+            blackhole.consume(requestContext.getParamMap().get(name));
+        }
+    }
+
+    @Benchmark
+    public void typedAccessors(Blackhole blackhole) {
+        RequestContext requestContext = new CustomRequestContext(request);
+        for (String name : NAMES) {
+            blackhole.consume(requestContext.getString(name));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.epam.jwd.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of password check on sign in. Sample time shows percentiles,
+ * so work factor of bcrypt and PBKDF2 can be chosen by p99 of sign in:
+ * mvn -P benchmark test-compile exec:exec -Dbenchmark="PasswordHasherBenchmark.bcrypt -p rounds=10,11,12"
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordHasherBenchmark {
+
+    private static final String PASSWORD = "12345678";
+
+    @Param({"8", "10", "12"})
+    int rounds;
+
+    @Param({"100000", "210000", "600000"})
+    int iterations;
+
+    String md5Hash;
+    String bcryptHash;
+    String pbkdf2Hash;
+    Md5PasswordHasher md5PasswordHasher;
+    BCryptPasswordHasher bCryptPasswordHasher;
+    Pbkdf2PasswordHasher pbkdf2PasswordHasher;
+
+    @Setup
+    public void setUp() {
+        md5PasswordHasher = new Md5PasswordHasher();
+        bCryptPasswordHasher = new BCryptPasswordHasher(rounds);
+        pbkdf2PasswordHasher = new Pbkdf2PasswordHasher(iterations);
+        md5Hash = md5PasswordHasher.hash(PASSWORD);
+        bcryptHash = bCryptPasswordHasher.hash(PASSWORD);
+        pbkdf2Hash = pbkdf2PasswordHasher.hash(PASSWORD);
+    }
+
+    /**
+     * MD5 hashing before {@link Md5PasswordHasher}.
+     *
+     * @return {@link String} MD5 in upper case hex
+     * @throws NoSuchAlgorithmException never
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String legacyMd5() throws NoSuchAlgorithmException {
+        StringBuilder sb = new StringBuilder();
+        MessageDigest messageDigest = MessageDigest.getInstance("MD5");
+        messageDigest.update(PASSWORD.getBytes());
+        for (byte b : messageDigest.digest()) {
+            sb.append(String.format("%02X", b));
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean md5() {
+        return md5PasswordHasher.matches(PASSWORD, md5Hash);
+    }
+
+    @Benchmark
+    public boolean bcrypt() {
+        return bCryptPasswordHasher.matches(PASSWORD, bcryptHash);
+    }
+
+    @Benchmark
+    public boolean pbkdf2() {
+        return pbkdf2PasswordHasher.matches(PASSWORD, pbkdf2Hash);
+    }
+}
@@ -3,8 +3,8 @@ package com.epam.jwd.context;
 import com.epam.jwd.context.config.AdminConfiguration;
 import com.epam.jwd.context.config.DatabaseConfiguration;
 import com.epam.jwd.context.config.EmailConfiguration;
-import com.epam.jwd.entity.User;
 import com.epam.jwd.pool.ConnectionPool;
+import com.epam.jwd.service.FacultyCatalog;
 import com.epam.jwd.service.UserService;
 import com.epam.jwd.util.AdminPropertiesReaderUtil;
 import com.epam.jwd.util.DatabasePropertiesReaderUtil;
@@ -59,7 +59,7 @@ public class AppContext {
         initProperties();
         initConfigs();
         ConnectionPool.getInstance();
-        User.COUNT_ID = UserService.getInstance().getMaxId();
+        FacultyCatalog.getInstance().refresh();
         isEnrolledList = UserService.getInstance().getCountUserEnrolled() != 0;
     }
 
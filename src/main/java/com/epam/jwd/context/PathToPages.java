@@ -39,4 +39,5 @@ public class PathToPages {
 
     // Subsidiary pages
     public static final String ERROR_PAGE = "/WEB-INF/jsp/view/subsidiary/error.jsp";
+    public static final String BUSY_PAGE = "/WEB-INF/jsp/view/subsidiary/busy.jsp";
 }
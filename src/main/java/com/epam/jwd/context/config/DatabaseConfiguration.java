@@ -35,6 +35,22 @@ public final class DatabaseConfiguration {
     private static final String DRIVER = "driver";
     private static final String JDBC = "jdbc";
     private static final String POOL_SIZE = "poolsize";
+    private static final String MIN_POOL_SIZE = "minpoolsize";
+    private static final String CONNECTION_TIMEOUT = "connectiontimeout";
+    private static final String VALIDATION_TIMEOUT = "validationtimeout";
+    private static final String LEAK_DETECTION_THRESHOLD = "leakdetectionthreshold";
+    private static final String STATEMENT_CACHE_SIZE = "statementcachesize";
+    private static final String BATCH_SIZE = "batchsize";
+    private static final String MULTI_ROW_INSERT = "multirowinsert";
+    private static final String SQL_ENROLLMENT = "sqlenrollment";
+    private static final String PAGE_SIZE = "pagesize";
+
+    private static final int DEFAULT_CONNECTION_TIMEOUT = 30000;
+    private static final int DEFAULT_VALIDATION_TIMEOUT = 5000;
+    private static final int DEFAULT_LEAK_DETECTION_THRESHOLD = 60000;
+    private static final int DEFAULT_STATEMENT_CACHE_SIZE = 0;
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int DEFAULT_PAGE_SIZE = 50;
 
     private String login;
     private String password;
@@ -43,7 +59,46 @@ public final class DatabaseConfiguration {
     private String name;
     private String driver;
     private String jdbc;
+    /**
+     * Max count of connections in pool.
+     */
     private int poolSize;
+    /**
+     * Count of connections created on pool startup.
+     */
+    private int minPoolSize;
+    /**
+     * Max time in milliseconds to wait for a free connection.
+     */
+    private int connectionTimeout;
+    /**
+     * Max time in milliseconds to check that connection is alive.
+     */
+    private int validationTimeout;
+    /**
+     * Time in milliseconds after which borrowed connection is logged as leak, zero disables detection.
+     */
+    private int leakDetectionThreshold;
+    /**
+     * Max count of cached prepared statements per connection, zero disables cache.
+     */
+    private int statementCacheSize;
+    /**
+     * Count of rows sent to database in one JDBC batch or one multi-row INSERT.
+     */
+    private int batchSize;
+    /**
+     * If true, batch inserts are rewritten to multi-row INSERT statements.
+     */
+    private boolean multiRowInsert;
+    /**
+     * If true, enrolled list is ranked in database by window functions, else in memory.
+     */
+    private boolean sqlEnrollment;
+    /**
+     * Count of users on one page of admin user list.
+     */
+    private int pageSize;
 
 
     public static DatabaseConfiguration getInstance() {
@@ -84,10 +139,42 @@ public final class DatabaseConfiguration {
         instance.driver = DatabasePropertiesReaderUtil.resourceBundle.getString(DRIVER);
         instance.jdbc = DatabasePropertiesReaderUtil.resourceBundle.getString(JDBC);
         instance.poolSize = Integer.parseInt(DatabasePropertiesReaderUtil.resourceBundle.getString(POOL_SIZE));
+        instance.minPoolSize = Math.min(getInt(MIN_POOL_SIZE, instance.poolSize), instance.poolSize);
+        instance.connectionTimeout = getInt(CONNECTION_TIMEOUT, DEFAULT_CONNECTION_TIMEOUT);
+        instance.validationTimeout = getInt(VALIDATION_TIMEOUT, DEFAULT_VALIDATION_TIMEOUT);
+        instance.leakDetectionThreshold = getInt(LEAK_DETECTION_THRESHOLD, DEFAULT_LEAK_DETECTION_THRESHOLD);
+        instance.statementCacheSize = getInt(STATEMENT_CACHE_SIZE, DEFAULT_STATEMENT_CACHE_SIZE);
+        instance.batchSize = Math.max(1, getInt(BATCH_SIZE, DEFAULT_BATCH_SIZE));
+        instance.multiRowInsert = getBoolean(MULTI_ROW_INSERT);
+        instance.sqlEnrollment = getBoolean(SQL_ENROLLMENT);
+        instance.pageSize = Math.max(1, getInt(PAGE_SIZE, DEFAULT_PAGE_SIZE));
 
         return instance;
     }
 
+    /**
+     * Method that reads optional {@link Integer} property.
+     *
+     * @param key          {@link String} name of property
+     * @param defaultValue {@link Integer} value, if property is absent
+     * @return {@link Integer} value of property
+     */
+    private static int getInt(String key, int defaultValue) {
+        return DatabasePropertiesReaderUtil.resourceBundle.containsKey(key)
+                ? Integer.parseInt(DatabasePropertiesReaderUtil.resourceBundle.getString(key).trim())
+                : defaultValue;
+    }
+
+    /**
+     * Method that reads optional {@link Boolean} property, false if absent.
+     *
+     * @param key {@link String} name of property
+     * @return {@link Boolean} value of property
+     */
+    private static boolean getBoolean(String key) {
+        return DatabasePropertiesReaderUtil.resourceBundle.containsKey(key)
+                && Boolean.parseBoolean(DatabasePropertiesReaderUtil.resourceBundle.getString(key).trim());
+    }
 
     /**
      * Method that build and return JDBC url.
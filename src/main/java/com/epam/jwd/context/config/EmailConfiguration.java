@@ -32,10 +32,18 @@ public class EmailConfiguration {
     private static final String MAIL_SMTP_PORT = "mail.smtp.port";
     private static final String MAIL_USERNAME = "mail.username";
     private static final String MAIL_PASSWORD = "mail.password";
+    private static final String MAIL_QUEUE_CAPACITY = "mail.queue.capacity";
+    private static final String MAIL_QUEUE_WORKERS = "mail.queue.workers";
+    private static final String MAIL_RETRY_ATTEMPTS = "mail.retry.attempts";
+    private static final String MAIL_RETRY_BACKOFF = "mail.retry.backoff";
 
     private final Properties propertiesSessionDefaultInstance = new Properties();
     private String username;
     private String password;
+    private int queueCapacity;
+    private int workers;
+    private int retryAttempts;
+    private int retryBackoff;
 
 
     public static EmailConfiguration getInstance() {
@@ -68,9 +76,26 @@ public class EmailConfiguration {
         instance.propertiesSessionDefaultInstance.put(MAIL_SMTP_PORT, EmailPropertiesReaderUtil.resourceBundle.getString(MAIL_SMTP_PORT));
         instance.username = EmailPropertiesReaderUtil.resourceBundle.getString(MAIL_USERNAME);
         instance.password = EmailPropertiesReaderUtil.resourceBundle.getString(MAIL_PASSWORD);
+        instance.queueCapacity = getInt(MAIL_QUEUE_CAPACITY, 100);
+        instance.workers = getInt(MAIL_QUEUE_WORKERS, 2);
+        instance.retryAttempts = getInt(MAIL_RETRY_ATTEMPTS, 3);
+        instance.retryBackoff = getInt(MAIL_RETRY_BACKOFF, 1000);
 
         return instance;
     }
 
+    /**
+     * Method that reads optional {@link Integer} property.
+     *
+     * @param key          {@link String} name of property
+     * @param defaultValue {@link Integer} value, if property is absent
+     * @return {@link Integer} value of property
+     */
+    private static int getInt(String key, int defaultValue) {
+        return EmailPropertiesReaderUtil.resourceBundle.containsKey(key)
+                ? Integer.parseInt(EmailPropertiesReaderUtil.resourceBundle.getString(key).trim())
+                : defaultValue;
+    }
+
 
 }
@@ -48,7 +48,10 @@ public class MainController extends HttpServlet {
     private void doProcess(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
         final Command command = CommandFactory.getCommand(req.getParameter("command"));
         final ResponseContext responseContext = command.execute(new CustomRequestContext(req));
-        if (responseContext.getResponseType() == ResponseContext.ResponseType.REDIRECT) {
+        responseContext.getHeaders().forEach(resp::setHeader);
+        if (responseContext.getResponseType() == ResponseContext.ResponseType.NOT_MODIFIED) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        } else if (responseContext.getResponseType() == ResponseContext.ResponseType.REDIRECT) {
             resp.sendRedirect(responseContext.getPage());
         } else {
             final RequestDispatcher requestDispatcher = req.getRequestDispatcher(responseContext.getPage());
@@ -0,0 +1,254 @@
+package com.epam.jwd.controller;
+
+import lombok.extern.log4j.Log4j2;
+
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Controller that serves images from /img. Files are read once and kept
+ * in memory with strong ETag, response has long {@code Cache-Control} and
+ * conditional request gets 304. Variants "file.br" and "file.gz" made on
+ * build are sent to clients, which accept them, text files without gzip
+ * variant are compressed once on first request. Missing files aren't kept,
+ * so requests of random paths don't fill memory.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+@Log4j2
+@WebServlet("/img/*")
+public class StaticResourceController extends HttpServlet {
+
+    private static final String ROOT = "/img";
+    private static final String CACHE_CONTROL = "public, max-age=86400";
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final String BROTLI = "br";
+    private static final String GZIP = "gzip";
+    private static final int MIN_COMPRESS_LENGTH = 256;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Map<String, StaticResource> resources = new ConcurrentHashMap<>();
+
+    /**
+     * Content of resource with its compressed variants.
+     */
+    static final class StaticResource {
+        private final String contentType;
+        private final Variant identity;
+        private final Variant brotli;
+        private final Variant gzip;
+
+        private StaticResource(String contentType, Variant identity, Variant brotli, Variant gzip) {
+            this.contentType = contentType;
+            this.identity = identity;
+            this.brotli = brotli;
+            this.gzip = gzip;
+        }
+    }
+
+    /**
+     * Bytes of one encoding of resource and their ETag.
+     */
+    static final class Variant {
+        private final String encoding;
+        private final byte[] content;
+        private final String eTag;
+
+        private Variant(String encoding, byte[] content, String eTag) {
+            this.encoding = encoding;
+            this.content = content;
+            this.eTag = eTag;
+        }
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        String path = req.getPathInfo();
+        if (path == null || path.contains("..") || path.endsWith("/")) {
+            resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        StaticResource resource = resources.get(path);
+        if (resource == null) {
+            resource = load(path);
+            if (resource == null) {
+                resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            StaticResource loaded = resources.putIfAbsent(path, resource);
+            if (loaded != null) {
+                resource = loaded;
+            }
+        }
+        Variant variant = chooseVariant(resource, req.getHeader("Accept-Encoding"));
+
+        resp.setHeader("Cache-Control", CACHE_CONTROL);
+        resp.setHeader("ETag", variant.eTag);
+        if (resource.brotli != null || resource.gzip != null) {
+            resp.setHeader("Vary", "Accept-Encoding");
+        }
+        if (matches(req.getHeader("If-None-Match"), variant.eTag)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        resp.setContentType(resource.contentType);
+        if (variant.encoding != null) {
+            resp.setHeader("Content-Encoding", variant.encoding);
+        }
+        resp.setContentLength(variant.content.length);
+        resp.getOutputStream().write(variant.content);
+    }
+
+    /**
+     * Method that reads resource and its variants from web application.
+     *
+     * @param path {@link String} path inside /img
+     * @return {@link StaticResource} null, if file doesn't exist or can't be read
+     */
+    private StaticResource load(String path) {
+        try {
+            byte[] content = read(ROOT + path);
+            if (content == null) {
+                return null;
+            }
+            String contentType = getServletContext().getMimeType(path);
+            if (contentType == null) {
+                contentType = DEFAULT_CONTENT_TYPE;
+            }
+            byte[] brotli = read(ROOT + path + ".br");
+            byte[] gzip = read(ROOT + path + ".gz");
+            if (gzip == null && isCompressible(contentType) && content.length >= MIN_COMPRESS_LENGTH) {
+                gzip = gzip(content);
+            }
+            String eTag = hash(content);
+            log.debug("Static resource " + path + " loaded, " + content.length + " bytes");
+            return new StaticResource(contentType,
+                    new Variant(null, content, "\"" + eTag + "\""),
+                    brotli == null ? null : new Variant(BROTLI, brotli, "\"" + eTag + "-br\""),
+                    gzip == null ? null : new Variant(GZIP, gzip, "\"" + eTag + "-gz\""));
+        } catch (IOException e) {
+            log.error("Can't read static resource " + path + " " + e);
+            return null;
+        }
+    }
+
+    private byte[] read(String path) throws IOException {
+        try (InputStream inputStream = getServletContext().getResourceAsStream(path)) {
+            if (inputStream == null) {
+                return null;
+            }
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toByteArray();
+        }
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(content);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static boolean isCompressible(String contentType) {
+        return contentType.startsWith("text/") || contentType.endsWith("+xml")
+                || contentType.equals("application/javascript");
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            char[] chars = new char[32];
+            for (int i = 0; i < 16; i++) {
+                chars[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                chars[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(chars);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Method that chooses the smallest variant accepted by client.
+     *
+     * @param resource       {@link StaticResource} resource
+     * @param acceptEncoding {@link String} header Accept-Encoding
+     * @return {@link Variant} variant for response
+     */
+    static Variant chooseVariant(StaticResource resource, String acceptEncoding) {
+        if (acceptEncoding != null) {
+            if (resource.brotli != null && accepts(acceptEncoding, BROTLI)) {
+                return resource.brotli;
+            }
+            if (resource.gzip != null && accepts(acceptEncoding, GZIP)) {
+                return resource.gzip;
+            }
+        }
+        return resource.identity;
+    }
+
+    /**
+     * Method that checks encoding in Accept-Encoding, encoding with q=0 is refused.
+     *
+     * @param acceptEncoding {@link String} header value
+     * @param encoding       {@link String} encoding
+     * @return {@link Boolean} true, if client accepts encoding
+     */
+    static boolean accepts(String acceptEncoding, String encoding) {
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (tokens[0].trim().equalsIgnoreCase(encoding)) {
+                for (int i = 1; i < tokens.length; i++) {
+                    String parameter = tokens[i].trim();
+                    if (parameter.startsWith("q=")) {
+                        try {
+                            return Double.parseDouble(parameter.substring(2)) > 0;
+                        } catch (NumberFormatException e) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Method that compares If-None-Match with ETag of response.
+     *
+     * @param ifNoneMatch {@link String} header value, may be list of tags
+     * @param eTag        {@link String} ETag of variant
+     * @return {@link Boolean} true, if client has the same variant
+     */
+    static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.equals("*") || trimmed.equals(eTag) || trimmed.equals("W/" + eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
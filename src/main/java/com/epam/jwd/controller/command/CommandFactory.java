@@ -4,11 +4,13 @@ import com.epam.jwd.context.CommandType;
 import com.epam.jwd.controller.command.impl.ErrorCommand;
 import lombok.extern.log4j.Log4j2;
 
-import java.util.Arrays;
-import java.util.Optional;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * {@link CommandFactory} class that returns needed {@link Command}.
+ * Commands are looked up by url in table built once from {@link CommandType}.
  *
  * @author Maxim Semenko
  * @version 0.0.1
@@ -17,20 +19,34 @@ import java.util.Optional;
 @Log4j2
 public class CommandFactory {
 
+    private static final Command ERROR_COMMAND = new ErrorCommand();
+    private static final Map<String, Command> COMMANDS = initCommands();
+
+    /**
+     * Method that builds table of commands by url.
+     *
+     * @return {@link Map<>} immutable table of commands
+     */
+    private static Map<String, Command> initCommands() {
+        Map<String, Command> commands = new HashMap<>();
+        for (CommandType commandType : CommandType.values()) {
+            commands.put(commandType.getUrl(), commandType.getCommand());
+        }
+        return Collections.unmodifiableMap(commands);
+    }
+
     /**
      * Method that returns {@link Command}.
      *
      * @param command {@link String} const value
-     * @return {@link Command} command
+     * @return {@link Command} command, {@link ErrorCommand} if command is unknown
      */
     public static Command getCommand(final String command) {
-        Optional<CommandType> optional =
-                Arrays.stream(CommandType.values())
-                        .filter(enumCommand -> enumCommand.getUrl().equals(command)).findFirst();
-        if (optional.isPresent()) {
-            log.info("Get command" + command);
-            return optional.get().getCommand();
+        Command result = command == null ? null : COMMANDS.get(command);
+        if (result == null) {
+            log.debug("Unknown command {}", command);
+            return ERROR_COMMAND;
         }
-        return new ErrorCommand();
+        return result;
     }
 }
@@ -12,10 +12,36 @@ public interface RequestContext {
 
     Map<String, String> getParamMap();
 
+    String getString(String name);
+
+    /**
+     * Method that returns parameter as number.
+     *
+     * @param name         {@link String} name of parameter
+     * @param defaultValue {@link Integer} value for missing or not numeric parameter
+     * @return {@link Integer} value of parameter
+     */
+    int getInt(String name, int defaultValue);
+
     void setAttribute(String name, Object attr);
 
+    /**
+     * Method that returns session of request, new session isn't created.
+     *
+     * @return {@link HttpSession} session, null for anonymous visitor
+     */
     HttpSession getHttpSession();
 
+    /**
+     * Method that returns session of request, it is created if there is none.
+     * It is called only by commands, which keep state of anonymous visitor.
+     *
+     * @return {@link HttpSession} session
+     */
+    HttpSession createHttpSession();
+
+    String getHeader(String name);
+
 }
 
 
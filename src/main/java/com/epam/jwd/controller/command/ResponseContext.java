@@ -1,14 +1,22 @@
 package com.epam.jwd.controller.command;
 
+import java.util.Collections;
+import java.util.Map;
+
 public interface ResponseContext {
 
     enum ResponseType {
         FORWARD,
-        REDIRECT
+        REDIRECT,
+        NOT_MODIFIED
     }
 
     String getPage();
 
     ResponseType getResponseType();
 
+    default Map<String, String> getHeaders() {
+        return Collections.emptyMap();
+    }
+
 }
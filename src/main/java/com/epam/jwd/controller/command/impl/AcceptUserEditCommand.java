@@ -5,7 +5,6 @@ import com.epam.jwd.controller.command.Command;
 import com.epam.jwd.controller.command.RequestContext;
 import com.epam.jwd.controller.command.ResponseContext;
 import com.epam.jwd.entity.User;
-import com.epam.jwd.entity.UserCriteria;
 import com.epam.jwd.exception.ValidatorException;
 import com.epam.jwd.service.PasswordSecurityService;
 import com.epam.jwd.service.UserService;
@@ -35,12 +34,13 @@ public class AcceptUserEditCommand implements Command {
     @Override
     public ResponseContext execute(RequestContext requestContext) {
         HttpSession session = requestContext.getHttpSession();
-        if (session.getAttribute("user") != null) {
-            oldUser = (User) requestContext.getHttpSession().getAttribute("user");
+        if (session != null && session.getAttribute("user") != null) {
+            oldUser = (User) session.getAttribute("user");
             getNewUser(requestContext);
 
             if (checkExistLogin(newUser.getLogin(), oldUser.getLogin()).isPresent()) {
                 requestContext.setAttribute("checkExistUser", true);
+                return USER_EDIT_PAGE_REDIRECT;
             }
             checkPassword(requestContext);
 
@@ -64,20 +64,18 @@ public class AcceptUserEditCommand implements Command {
     private Optional<User> checkExistLogin(String newLogin, String oldLogin) {
         Optional<User> optional = Optional.empty();
         if (!newLogin.equals(oldLogin)) {
-            UserCriteria userCriteria = UserCriteria
-                    .builder()
-                    .login(newLogin)
-                    .build();
-            optional = userService.getByCriteria(userCriteria);
+            optional = userService.getByLoginIgnoreCase(newLogin)
+                    .filter(user -> user.getId() != oldUser.getId());
         }
         return optional;
     }
 
     private void checkPassword(RequestContext requestContext) {
-        if (!requestContext.getParamList().get(4).equals(oldUser.getPassword())) {
+        String password = requestContext.getString("password");
+        if (!password.equals(oldUser.getPassword())) {
             newUser.setPassword(PasswordSecurityService.
                     getInstance().
-                    doHashing(requestContext.getParamList().get(4)));
+                    hash(password));
         }
     }
 }
@@ -8,6 +8,7 @@ import com.epam.jwd.entity.User;
 import com.epam.jwd.exception.ValidatorException;
 import com.epam.jwd.service.PasswordSecurityService;
 import com.epam.jwd.service.UserService;
+import com.epam.jwd.service.VerificationCodeStoreFactory;
 import lombok.extern.log4j.Log4j2;
 
 import javax.servlet.http.HttpSession;
@@ -25,6 +26,8 @@ public class ChangePasswordCommand implements Command {
     private static final ResponseContext HOME_REDIRECT
             = new ResponseContextImpl(PathToPages.HOME_REDIRECT, ResponseContext.ResponseType.REDIRECT);
 
+    private static final int NO_CODE = -1;
+
     private static final ResponseContext NEW_PASSWORD_PAGE
             = new ResponseContextImpl(PathToPages.NEW_PASSWORD_PAGE, ResponseContext.ResponseType.FORWARD);
 
@@ -32,14 +35,12 @@ public class ChangePasswordCommand implements Command {
     public ResponseContext execute(RequestContext requestContext) {
         HttpSession session = requestContext.getHttpSession();
 
-        User user = (User) session.getAttribute("userForRestorePassword");
-        Integer code = (Integer) session.getAttribute("checkCode");
-
-        Integer inputCode = Integer.parseInt(requestContext.getParamMap().get("inputCheckCode"));
-        String inputPassword = requestContext.getParamMap().get("newPassword");
+        User user = session == null ? null : (User) session.getAttribute("userForRestorePassword");
+        int inputCode = requestContext.getInt("inputCheckCode", NO_CODE);
+        String inputPassword = requestContext.getString("newPassword");
 
-        if (inputCode.equals(code)) {
-            user.setPassword(PasswordSecurityService.getInstance().doHashing(inputPassword));
+        if (user != null && VerificationCodeStoreFactory.getStore().verify(user.getLogin(), inputCode)) {
+            user.setPassword(PasswordSecurityService.getInstance().hash(inputPassword));
             try {
                 UserService.getInstance().update(user);
                 session.invalidate();
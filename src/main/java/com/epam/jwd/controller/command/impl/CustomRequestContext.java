@@ -4,15 +4,26 @@ import com.epam.jwd.controller.command.RequestContext;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+
+/**
+ * {@link RequestContext} over {@link HttpServletRequest}. Single parameters
+ * are read straight from request, map and list of parameters are built
+ * at most once per request and can't be modified.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
 
 public class CustomRequestContext implements RequestContext {
 
     private final HttpServletRequest httpServletRequest;
+    private Map<String, String> paramMap;
+    private List<String> paramList;
 
     public CustomRequestContext(HttpServletRequest httpServletRequest) {
         this.httpServletRequest = httpServletRequest;
@@ -20,24 +31,48 @@ public class CustomRequestContext implements RequestContext {
 
     @Override
     public List<String> getParamList() {
-        return httpServletRequest.getParameterMap()
-                .values()
-                .stream()
-                .flatMap(Arrays::stream)
-                .collect(Collectors.toList());
+        if (paramList == null) {
+            List<String> list = new ArrayList<>();
+            for (String[] values : httpServletRequest.getParameterMap().values()) {
+                Collections.addAll(list, values);
+            }
+            paramList = Collections.unmodifiableList(list);
+        }
+        return paramList;
     }
 
     @Override
     public Map<String, String> getParamMap() {
-        Map<String, String[]> stringMap = httpServletRequest.getParameterMap();
-        Map<String, String> map = new HashMap<>();
-        for (String parameterName : stringMap.keySet()) {
-            String[] values = stringMap.get(parameterName);
-            if (values != null && values.length > 0) {
-                map.put(parameterName, values[0]);
+        if (paramMap == null) {
+            Map<String, String[]> stringMap = httpServletRequest.getParameterMap();
+            Map<String, String> map = new HashMap<>();
+            for (Map.Entry<String, String[]> entry : stringMap.entrySet()) {
+                String[] values = entry.getValue();
+                if (values != null && values.length > 0) {
+                    map.put(entry.getKey(), values[0]);
+                }
             }
+            paramMap = Collections.unmodifiableMap(map);
+        }
+        return paramMap;
+    }
+
+    @Override
+    public String getString(String name) {
+        return httpServletRequest.getParameter(name);
+    }
+
+    @Override
+    public int getInt(String name, int defaultValue) {
+        String value = httpServletRequest.getParameter(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
         }
-        return map;
     }
 
     @Override
@@ -47,7 +82,17 @@ public class CustomRequestContext implements RequestContext {
 
     @Override
     public HttpSession getHttpSession() {
+        return httpServletRequest.getSession(false);
+    }
+
+    @Override
+    public HttpSession createHttpSession() {
         return httpServletRequest.getSession();
     }
 
+    @Override
+    public String getHeader(String name) {
+        return httpServletRequest.getHeader(name);
+    }
+
 }
@@ -24,8 +24,11 @@ public class EditFacultyCommand implements Command {
     @Override
     public ResponseContext execute(final RequestContext requestContext) {
         Faculty faculty = FacultyService.getInstance()
-                .selectById(Integer.parseInt(requestContext.getParamMap().get("id")));
-        faculty.setCountPlaces(Integer.parseInt(requestContext.getParamMap().get("countPlaces")));
+                .selectById(requestContext.getInt("id", 0));
+        if (faculty == null) {
+            return EDIT_FACULTY_REDIRECT;
+        }
+        faculty.setCountPlaces(requestContext.getInt("countPlaces", faculty.getCountPlaces()));
         try {
             FacultyService.getInstance().update(faculty);
         } catch (ValidatorException e) {
@@ -5,58 +5,65 @@ import com.epam.jwd.controller.command.Command;
 import com.epam.jwd.controller.command.RequestContext;
 import com.epam.jwd.controller.command.ResponseContext;
 import com.epam.jwd.entity.UserCriteria;
-import com.epam.jwd.service.UserService;
 
-import java.util.Map;
+import javax.servlet.http.HttpSession;
 
 public class FindUsersByCriteriaCommand implements Command {
 
     private static final ResponseContext FIND_USERS_BY_CRITERIA_REDIRECT
             = new ResponseContextImpl(PathToPages.FIND_USERS_BY_CRITERIA_REDIRECT, ResponseContext.ResponseType.REDIRECT);
 
+    /**
+     * Method that keeps only {@link UserCriteria} in session, search
+     * is executed by {@link ShowUsersByCriteriaPageCommand} after redirect.
+     *
+     * @param requestContext {@link RequestContext}
+     * @return {@link ResponseContext} redirect to search page
+     */
     @Override
     public ResponseContext execute(RequestContext requestContext) {
-        requestContext.getHttpSession().setAttribute("usersByCriteria",
-                UserService.getInstance().getAllByCriteria(createCriteria(requestContext)));
+        HttpSession session = requestContext.getHttpSession();
+        if (session != null) {
+            session.setAttribute("searchCriteria", createCriteria(requestContext));
+        }
         return FIND_USERS_BY_CRITERIA_REDIRECT;
     }
 
     /**
-     * Method that creates {@link UserCriteria} by params from {@link Map}.
+     * Method that creates {@link UserCriteria} by request params.
      */
     private UserCriteria createCriteria(RequestContext requestContext) {
-        Map<String, String> paramMap = requestContext.getParamMap();
         UserCriteria userCriteria = UserCriteria.builder().build();
 
-        if (!paramMap.get("userId").equals("")) {
-            userCriteria.setId(Integer.parseInt(paramMap.get("userId")));
+        if (!requestContext.getString("userId").equals("")) {
+            userCriteria.setId(requestContext.getInt("userId", 0));
         }
-        if (!paramMap.get("userLogin").equals("")) {
-            userCriteria.setLogin(paramMap.get("userLogin"));
+        if (!requestContext.getString("userLogin").equals("")) {
+            userCriteria.setLogin(requestContext.getString("userLogin"));
         }
-        if (!paramMap.get("userFirstname").equals("")) {
-            userCriteria.setFirstname(paramMap.get("userFirstname"));
+        if (!requestContext.getString("userFirstname").equals("")) {
+            userCriteria.setFirstname(requestContext.getString("userFirstname"));
         }
-        if (!paramMap.get("userLastname").equals("")) {
-            userCriteria.setLastname(paramMap.get("userLastname"));
+        if (!requestContext.getString("userLastname").equals("")) {
+            userCriteria.setLastname(requestContext.getString("userLastname"));
         }
-        if (!paramMap.get("userEmail").equals("")) {
-            userCriteria.setEmail(paramMap.get("userEmail"));
+        if (!requestContext.getString("userEmail").equals("")) {
+            userCriteria.setEmail(requestContext.getString("userEmail"));
         }
-        if (!paramMap.get("userAverageScore").equals("")) {
-            userCriteria.setAverageScore(Integer.parseInt(paramMap.get("userAverageScore")));
+        if (!requestContext.getString("userAverageScore").equals("")) {
+            userCriteria.setAverageScore(requestContext.getInt("userAverageScore", 0));
         }
-        if (!paramMap.get("userRussianScore").equals("")) {
-            userCriteria.setRussianExamScore(Integer.parseInt(paramMap.get("userRussianScore")));
+        if (!requestContext.getString("userRussianScore").equals("")) {
+            userCriteria.setRussianExamScore(requestContext.getInt("userRussianScore", 0));
         }
-        if (!paramMap.get("userMathScore").equals("")) {
-            userCriteria.setMathExamScore(Integer.parseInt(paramMap.get("userMathScore")));
+        if (!requestContext.getString("userMathScore").equals("")) {
+            userCriteria.setMathExamScore(requestContext.getInt("userMathScore", 0));
         }
-        if (!paramMap.get("userPhysicsScore").equals("")) {
-            userCriteria.setPhysicsExamScore(Integer.parseInt(paramMap.get("userPhysicsScore")));
+        if (!requestContext.getString("userPhysicsScore").equals("")) {
+            userCriteria.setPhysicsExamScore(requestContext.getInt("userPhysicsScore", 0));
         }
-        if (!paramMap.get("userFacultyId").equals("")) {
-            userCriteria.setFacultyId(Integer.parseInt(paramMap.get("userFacultyId")));
+        if (!requestContext.getString("userFacultyId").equals("")) {
+            userCriteria.setFacultyId(requestContext.getInt("userFacultyId", 0));
         }
         return userCriteria;
     }
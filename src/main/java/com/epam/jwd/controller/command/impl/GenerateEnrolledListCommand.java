@@ -5,8 +5,9 @@ import com.epam.jwd.context.PathToPages;
 import com.epam.jwd.controller.command.Command;
 import com.epam.jwd.controller.command.RequestContext;
 import com.epam.jwd.controller.command.ResponseContext;
-import com.epam.jwd.exception.ValidatorException;
+import com.epam.jwd.entity.EnrollmentReport;
 import com.epam.jwd.service.UserService;
+import lombok.extern.log4j.Log4j2;
 
 import javax.servlet.http.HttpSession;
 
@@ -17,6 +18,7 @@ import javax.servlet.http.HttpSession;
  * @version 0.0.1
  */
 
+@Log4j2
 public class GenerateEnrolledListCommand implements Command {
 
     private static final ResponseContext ADMIN_CABINET_PAGE
@@ -24,13 +26,13 @@ public class GenerateEnrolledListCommand implements Command {
 
     @Override
     public ResponseContext execute(RequestContext requestContext) {
-        if (requestContext.getHttpSession().getAttribute("user") != null) {
-            try {
-                UserService.getInstance().insertToEnrolledList(UserService.getInstance().selectAll());
+        HttpSession session = requestContext.getHttpSession();
+        if (session != null && session.getAttribute("user") != null) {
+            EnrollmentReport report = UserService.getInstance().generateEnrolledList();
+            log.info("Enrolled list generated " + report);
+            if (report.isCommitted()) {
                 AppContext.isEnrolledList = true;
                 requestContext.setAttribute("enrolledList", true);
-            } catch (ValidatorException e) {
-                e.printStackTrace();
             }
         }
         return ADMIN_CABINET_PAGE;
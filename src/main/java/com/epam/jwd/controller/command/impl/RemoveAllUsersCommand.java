@@ -23,7 +23,7 @@ public class RemoveAllUsersCommand implements Command {
     @Override
     public ResponseContext execute(RequestContext requestContext) {
         HttpSession session = requestContext.getHttpSession();
-        if (session.getAttribute("user") != null) {
+        if (session != null && session.getAttribute("user") != null) {
             UserService.getInstance().removeAllUsers();
         }
         return ADMIN_CABINET_REDIRECT;
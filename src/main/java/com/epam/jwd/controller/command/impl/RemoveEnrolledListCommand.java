@@ -25,7 +25,7 @@ public class RemoveEnrolledListCommand implements Command {
     @Override
     public ResponseContext execute(RequestContext requestContext) {
         HttpSession session = requestContext.getHttpSession();
-        if (session.getAttribute("user") != null) {
+        if (session != null && session.getAttribute("user") != null) {
             try {
                 UserService.getInstance().removeEnrolledList();
                 AppContext.isEnrolledList = false;
@@ -4,9 +4,12 @@ import com.epam.jwd.context.PathToPages;
 import com.epam.jwd.controller.command.Command;
 import com.epam.jwd.controller.command.RequestContext;
 import com.epam.jwd.controller.command.ResponseContext;
+import com.epam.jwd.entity.EnumUserSort;
 import com.epam.jwd.entity.User;
 import com.epam.jwd.service.UserService;
 
+import javax.servlet.http.HttpSession;
+
 /**
  * Class command that remove {@link User} by admin.
  *
@@ -24,12 +27,29 @@ public class RemoveUserByAdminCommand implements Command {
 
     @Override
     public ResponseContext execute(RequestContext requestContext) {
-        UserService.getInstance().removeById(Integer.parseInt(requestContext.getParamMap().get("id")));
-        requestContext.setAttribute("showAllUsers", UserService.getInstance().selectAll());
-        if (requestContext.getHttpSession().getAttribute("adminPage") == "allUsers") {
-            return SHOW_ALL_USERS_PAGE_REDIRECT;
+        UserService.getInstance().removeById(requestContext.getInt("id", 0));
+        HttpSession session = requestContext.getHttpSession();
+        if (session != null && session.getAttribute("adminPage") == "allUsers") {
+            return getPageRedirect(requestContext);
         } else {
             return FIND_USERS_BY_CRITERIA_REDIRECT;
         }
     }
+
+    /**
+     * Method that returns redirect to the same page of all users.
+     *
+     * @param requestContext {@link RequestContext}
+     * @return {@link ResponseContext} redirect
+     */
+    private ResponseContext getPageRedirect(RequestContext requestContext) {
+        int afterId = requestContext.getInt("after", 0);
+        if (afterId == 0) {
+            return SHOW_ALL_USERS_PAGE_REDIRECT;
+        }
+        EnumUserSort sort = EnumUserSort.resolveByName(requestContext.getString("sort"));
+        return new ResponseContextImpl(PathToPages.SHOW_ALL_USERS_PAGE_REDIRECT
+                + "&after=" + afterId
+                + "&sort=" + sort.name().toLowerCase(), ResponseContext.ResponseType.REDIRECT);
+    }
 }
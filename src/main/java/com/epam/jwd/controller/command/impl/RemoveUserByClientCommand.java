@@ -8,6 +8,8 @@ import com.epam.jwd.entity.User;
 import com.epam.jwd.service.UserService;
 import lombok.extern.log4j.Log4j2;
 
+import javax.servlet.http.HttpSession;
+
 /**
  * Class command that remove {@link User} by client.
  *
@@ -23,10 +25,13 @@ public class RemoveUserByClientCommand implements Command {
 
     @Override
     public ResponseContext execute(RequestContext requestContext) {
-        UserService.getInstance().removeById(Integer.parseInt(requestContext.getParamMap().get("id")));
-        requestContext.getHttpSession().setAttribute("user", null);
+        UserService.getInstance().removeById(requestContext.getInt("id", 0));
+        HttpSession session = requestContext.getHttpSession();
+        if (session != null) {
+            session.setAttribute("user", null);
+        }
 
-        log.info("User id = " + requestContext.getParamMap().get("id") + " are removed by client");
+        log.info("User id = " + requestContext.getString("id") + " are removed by client");
         return HOME_REDIRECT;
     }
 }
@@ -2,6 +2,9 @@ package com.epam.jwd.controller.command.impl;
 
 import com.epam.jwd.controller.command.ResponseContext;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Class that store path for jsp page and responseType.
  *
@@ -12,10 +15,16 @@ import com.epam.jwd.controller.command.ResponseContext;
 public class ResponseContextImpl implements ResponseContext {
     String page;
     ResponseType responseType;
+    Map<String, String> headers;
 
     public ResponseContextImpl(String page, ResponseType responseType) {
+        this(page, responseType, Collections.emptyMap());
+    }
+
+    public ResponseContextImpl(String page, ResponseType responseType, Map<String, String> headers) {
         this.page = page;
         this.responseType = responseType;
+        this.headers = headers;
     }
 
     @Override
@@ -27,4 +36,9 @@ public class ResponseContextImpl implements ResponseContext {
     public ResponseType getResponseType() {
         return responseType;
     }
+
+    @Override
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
 }
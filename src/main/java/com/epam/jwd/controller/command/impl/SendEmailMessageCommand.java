@@ -5,14 +5,14 @@ import com.epam.jwd.controller.command.Command;
 import com.epam.jwd.controller.command.RequestContext;
 import com.epam.jwd.controller.command.ResponseContext;
 import com.epam.jwd.entity.User;
-import com.epam.jwd.entity.UserCriteria;
 import com.epam.jwd.service.RestorePasswordEmailService;
 import com.epam.jwd.service.UserService;
+import com.epam.jwd.service.VerificationCodeStore;
+import com.epam.jwd.service.VerificationCodeStoreFactory;
 import lombok.extern.log4j.Log4j2;
 
 import javax.mail.MessagingException;
 import javax.servlet.http.HttpSession;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -37,15 +37,19 @@ public class SendEmailMessageCommand implements Command {
         requestContext.setAttribute("errorMessage", false);
         requestContext.setAttribute("notFoundUser", false);
 
-        Optional<User> optionalUser = getOptionalUser(requestContext.getParamMap());
+        Optional<User> optionalUser = getOptionalUser(requestContext.getString("checkLogin"));
         if (optionalUser.isPresent()) {
+            User user = optionalUser.get();
+            RestorePasswordEmailService service = RestorePasswordEmailService.getInstance();
+            VerificationCodeStore store = VerificationCodeStoreFactory.getStore();
+            int code = service.generateCode();
+            store.put(user.getLogin(), code);
             try {
-                HttpSession session = requestContext.getHttpSession();
-                RestorePasswordEmailService service = RestorePasswordEmailService.getInstance();
-                service.sendMessage(optionalUser.get().getEmail());
-                session.setAttribute("userForRestorePassword", optionalUser.get());
-                session.setAttribute("checkCode", service.getGenerateCode());
+                service.sendMessage(user.getEmail(), code);
+                HttpSession session = requestContext.createHttpSession();
+                session.setAttribute("userForRestorePassword", user);
             } catch (MessagingException e) {
+                store.remove(user.getLogin());
                 log.error("Can't send message " + e);
             }
         } else {
@@ -58,13 +62,13 @@ public class SendEmailMessageCommand implements Command {
     /**
      * Method that checks {@link User} by login.
      *
-     * @param map {@link RequestContext}
+     * @param login {@link String} login of user
      * @return {@link Optional<User>}
      */
-    private Optional<User> getOptionalUser(Map<String, String> map) {
+    private Optional<User> getOptionalUser(String login) {
         return UserService
                 .getInstance()
-                .getByCriteria(UserCriteria.builder().login(map.get("checkLogin")).build());
+                .getByLogin(login);
     }
 
 }
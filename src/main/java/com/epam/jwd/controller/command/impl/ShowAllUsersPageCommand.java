@@ -4,11 +4,15 @@ import com.epam.jwd.context.PathToPages;
 import com.epam.jwd.controller.command.Command;
 import com.epam.jwd.controller.command.RequestContext;
 import com.epam.jwd.controller.command.ResponseContext;
+import com.epam.jwd.entity.EnumUserSort;
 import com.epam.jwd.entity.User;
+import com.epam.jwd.entity.UserPage;
 import com.epam.jwd.service.UserService;
 
+import javax.servlet.http.HttpSession;
+
 /**
- * Class command that open page with all users {@link User}.
+ * Class command that open one page of all users {@link User}.
  *
  * @author Maxim Semenko
  * @version 0.0.1
@@ -21,8 +25,15 @@ public class ShowAllUsersPageCommand implements Command {
 
     @Override
     public ResponseContext execute(RequestContext requestContext) {
-        requestContext.setAttribute("showAllUsers", UserService.getInstance().selectAll());
-        requestContext.getHttpSession().setAttribute("adminPage", "allUsers");
+        EnumUserSort sort = EnumUserSort.resolveByName(requestContext.getString("sort"));
+        int afterId = requestContext.getInt("after", 0);
+        UserPage page = UserService.getInstance().selectPage(afterId, sort);
+        requestContext.setAttribute("usersPage", page);
+        requestContext.setAttribute("showAllUsers", page.getUsers());
+        HttpSession session = requestContext.getHttpSession();
+        if (session != null) {
+            session.setAttribute("adminPage", "allUsers");
+        }
         return ALL_USERS_PAGE;
     }
 }
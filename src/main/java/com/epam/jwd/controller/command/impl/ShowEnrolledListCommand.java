@@ -4,10 +4,18 @@ import com.epam.jwd.context.PathToPages;
 import com.epam.jwd.controller.command.Command;
 import com.epam.jwd.controller.command.RequestContext;
 import com.epam.jwd.controller.command.ResponseContext;
-import com.epam.jwd.service.UserService;
+import com.epam.jwd.entity.EnrolledListSnapshot;
+import com.epam.jwd.entity.User;
+import com.epam.jwd.service.EnrolledListCache;
+
+import javax.servlet.http.HttpSession;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
- * Class command that show enrolled list.
+ * Class command that show enrolled list grouped by faculty. Page is not rendered again,
+ * if browser has page of the same enrolled list version, language and signed in user.
  *
  * @author Maxim Semenko
  * @version 0.0.1
@@ -15,12 +23,67 @@ import com.epam.jwd.service.UserService;
 
 public class ShowEnrolledListCommand implements Command {
 
-    private static final ResponseContext SHOW_ENROLLED_LIST_PAGE
-            = new ResponseContextImpl(PathToPages.SHOW_ENROLLED_LIST_PAGE, ResponseContext.ResponseType.FORWARD);
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String E_TAG = "ETag";
+    private static final String CACHE_CONTROL = "Cache-Control";
+    private static final String CACHE_CONTROL_VALUE = "private, no-cache";
+    private static final String LANGUAGE_PARAMETER = "ddlLanguage";
+    private static final String ACCEPT_LANGUAGE = "Accept-Language";
+    /**
+     * Attribute, where fmt:setLocale with session scope keeps locale.
+     */
+    private static final String FMT_LOCALE_SESSION = "javax.servlet.jsp.jstl.fmt.locale.session";
+
+    private final Supplier<EnrolledListSnapshot> snapshotSupplier;
+
+    public ShowEnrolledListCommand() {
+        this(() -> EnrolledListCache.getInstance().get());
+    }
+
+    ShowEnrolledListCommand(Supplier<EnrolledListSnapshot> snapshotSupplier) {
+        this.snapshotSupplier = snapshotSupplier;
+    }
 
     @Override
     public ResponseContext execute(RequestContext requestContext) {
-        requestContext.setAttribute("showEnrolledList", UserService.getInstance().getEnrolledList());
-        return SHOW_ENROLLED_LIST_PAGE;
+        EnrolledListSnapshot snapshot = snapshotSupplier.get();
+        HttpSession session = requestContext.getHttpSession();
+        if (session == null || session.getAttribute("user") == null) {
+            requestContext.setAttribute("enrolledListByFaculty", snapshot.getUsersByFaculty());
+            return new ResponseContextImpl(PathToPages.SHOW_ENROLLED_LIST_PAGE, ResponseContext.ResponseType.FORWARD);
+        }
+        User user = (User) session.getAttribute("user");
+        String eTag = "\"" + snapshot.getETag() + "-" + user.getId()
+                + "-" + getLanguage(requestContext, session) + "\"";
+        Map<String, String> headers = new HashMap<>();
+        headers.put(E_TAG, eTag);
+        headers.put(CACHE_CONTROL, CACHE_CONTROL_VALUE);
+        if (eTag.equals(requestContext.getHeader(IF_NONE_MATCH)) && requestContext.getString(LANGUAGE_PARAMETER) == null) {
+            return new ResponseContextImpl(PathToPages.SHOW_ENROLLED_LIST_PAGE, ResponseContext.ResponseType.NOT_MODIFIED, headers);
+        }
+        requestContext.setAttribute("enrolledListByFaculty", snapshot.getUsersByFaculty());
+        return new ResponseContextImpl(PathToPages.SHOW_ENROLLED_LIST_PAGE, ResponseContext.ResponseType.FORWARD, headers);
+    }
+
+    /**
+     * Method that returns language, which page will be rendered in: language
+     * chosen in this request, else locale set by language.jsp on any page,
+     * else languages of browser, which JSTL uses without locale.
+     *
+     * @param requestContext {@link RequestContext} request
+     * @param session        {@link HttpSession} session of signed in user
+     * @return {@link String} language for ETag
+     */
+    private String getLanguage(RequestContext requestContext, HttpSession session) {
+        String language = requestContext.getString(LANGUAGE_PARAMETER);
+        if (language != null && !language.isEmpty()) {
+            return language;
+        }
+        Object locale = session.getAttribute(FMT_LOCALE_SESSION);
+        if (locale != null) {
+            return locale.toString();
+        }
+        String acceptLanguage = requestContext.getHeader(ACCEPT_LANGUAGE);
+        return acceptLanguage == null ? "default" : Integer.toHexString(acceptLanguage.hashCode());
     }
 }
@@ -4,9 +4,15 @@ import com.epam.jwd.context.PathToPages;
 import com.epam.jwd.controller.command.Command;
 import com.epam.jwd.controller.command.RequestContext;
 import com.epam.jwd.controller.command.ResponseContext;
+import com.epam.jwd.entity.UserCriteria;
+import com.epam.jwd.service.UserService;
+
+import javax.servlet.http.HttpSession;
 
 /**
- * Class command that show search by criteria page.
+ * Class command that show search by criteria page. Users are searched
+ * by {@link UserCriteria} from session on every request, so session
+ * keeps only criteria and result is up to date after removing user.
  *
  * @author Maxim Semenko
  * @version 0.0.1
@@ -19,10 +25,16 @@ public class ShowUsersByCriteriaPageCommand implements Command {
 
     @Override
     public ResponseContext execute(RequestContext requestContext) {
-        requestContext.setAttribute("usersByCriteria",
-                requestContext.getHttpSession().getAttribute("usersByCriteria"));
-        requestContext.getHttpSession().setAttribute("usersByCriteria", null);
-        requestContext.getHttpSession().setAttribute("adminPage", "searchUsers");
+        HttpSession session = requestContext.getHttpSession();
+        if (session == null) {
+            return SHOW_USERS_BY_CRITERIA_PAGE;
+        }
+        Object criteria = session.getAttribute("searchCriteria");
+        if (criteria instanceof UserCriteria) {
+            requestContext.setAttribute("usersByCriteria",
+                    UserService.getInstance().getAllByCriteria((UserCriteria) criteria));
+        }
+        session.setAttribute("adminPage", "searchUsers");
         return SHOW_USERS_BY_CRITERIA_PAGE;
     }
 }
@@ -24,11 +24,17 @@ public class SignInCommand implements Command {
     private static final ResponseContext ADMIN_CABINET_REDIRECT
             = new ResponseContextImpl(PathToPages.ADMIN_CABINET_REDIRECT, ResponseContext.ResponseType.REDIRECT);
 
+    private static final ResponseContext HOME_REDIRECT
+            = new ResponseContextImpl(PathToPages.HOME_REDIRECT, ResponseContext.ResponseType.REDIRECT);
+
     @Override
     public ResponseContext execute(RequestContext requestContext) {
         HttpSession session = requestContext.getHttpSession();
 
-        User user = (User) session.getAttribute("user");
+        User user = session == null ? null : (User) session.getAttribute("user");
+        if (user == null) {
+            return HOME_REDIRECT;
+        }
         if (user.getLogin().equals(AdminConfiguration.getInstance().getLogin())
                 && user.getPassword().equals(AdminConfiguration.getInstance().getPassword())) {
             return ADMIN_CABINET_REDIRECT;
@@ -27,7 +27,9 @@ public class SignOutCommand implements Command {
     public ResponseContext execute(RequestContext requestContext) {
         log.info("User sign out from system");
         HttpSession session = requestContext.getHttpSession();
-        session.invalidate();
+        if (session != null) {
+            session.invalidate();
+        }
         return HOME_REDIRECT;
     }
 }
@@ -5,7 +5,6 @@ import com.epam.jwd.controller.command.Command;
 import com.epam.jwd.controller.command.RequestContext;
 import com.epam.jwd.controller.command.ResponseContext;
 import com.epam.jwd.entity.User;
-import com.epam.jwd.entity.UserCriteria;
 import com.epam.jwd.exception.ValidatorException;
 import com.epam.jwd.service.UserService;
 import lombok.extern.log4j.Log4j2;
@@ -43,16 +42,17 @@ public final class SignUpUserCommand implements Command {
 
         UserService userService = UserService.getInstance();
         User user = userService.createByParams(requestContext.getParamMap());
-        Optional<User> optionalUser = userService.getByCriteria(UserCriteria.builder()
-                .login(user.getLogin())
-                .build());
+        Optional<User> optionalUser = userService.getByLoginIgnoreCase(user.getLogin());
 
         if (optionalUser.isPresent()) {
             requestContext.setAttribute("checkExistUser", true);
         } else {
             try {
-                userService.insert(user);
-                return AFTER_SIGNUP_REDIRECT;
+                if (userService.insert(user)) {
+                    return AFTER_SIGNUP_REDIRECT;
+                }
+                boolean loginTaken = userService.getByLoginIgnoreCase(user.getLogin()).isPresent();
+                requestContext.setAttribute(loginTaken ? "checkExistUser" : "checkError", true);
             } catch (ValidatorException e) {
                 requestContext.setAttribute("checkError", true);
                 log.error("Can't register user " + e);
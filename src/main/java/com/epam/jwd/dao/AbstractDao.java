@@ -24,7 +24,7 @@ public interface AbstractDao<T> {
 
     boolean insert(T t);
 
-    void update(T t) throws UnknownMethodException;
+    boolean update(T t) throws UnknownMethodException;
 
     boolean removeById(Integer id) throws UnknownMethodException;
 
@@ -0,0 +1,83 @@
+package com.epam.jwd.dao.impl;
+
+import com.epam.jwd.entity.EnumUserStatus;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Class that generates enrolled list entirely in database.
+ * Applicants are ranked per faculty by sum of exams with ROW_NUMBER(),
+ * ties are broken like in {@link com.epam.jwd.service.EnrolledListRanker#RANK_ORDER}.
+ * Needs database with window functions (MySQL 8).
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+public class EnrolledListSqlGenerator {
+
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final AtomicBoolean INSTANCE_CREATED = new AtomicBoolean(false);
+    private static EnrolledListSqlGenerator instance;
+
+    private static final String SQL_INSERT_RANKED_USERS_ENROLLED = "INSERT INTO user_enrolled (user_id, sum_score)\n" +
+            "SELECT ranked.user_id, ranked.sum_score\n" +
+            "FROM (SELECT app_user.id AS user_id,\n" +
+            "             uc.average_score + uc.russian_score + uc.math_score + uc.physics_score AS sum_score,\n" +
+            "             ft.count_places,\n" +
+            "             ROW_NUMBER() OVER (PARTITION BY rf.faculty_id\n" +
+            "                 ORDER BY uc.average_score + uc.russian_score + uc.math_score + uc.physics_score DESC,\n" +
+            "                          uc.math_score DESC, uc.physics_score DESC,\n" +
+            "                          uc.russian_score DESC, uc.average_score DESC,\n" +
+            "                          app_user.id) AS place\n" +
+            "      FROM app_user\n" +
+            "               JOIN registered_faculty rf on app_user.id = rf.user_id\n" +
+            "               JOIN user_certificate uc on app_user.id = uc.user_id\n" +
+            "               JOIN faculty_type ft on rf.faculty_id = ft.id) ranked\n" +
+            "WHERE ranked.place <= ranked.count_places";
+
+    private static final String SQL_UPDATE_USERS_STATUS = "UPDATE app_user\n" +
+            "SET status_id = CASE WHEN id IN (SELECT user_id FROM user_enrolled) THEN ? ELSE ? END\n" +
+            "WHERE id IN (SELECT rf.user_id\n" +
+            "             FROM registered_faculty rf\n" +
+            "                      JOIN user_certificate uc on rf.user_id = uc.user_id)";
+
+    public static EnrolledListSqlGenerator getInstance() {
+        if (!INSTANCE_CREATED.get()) {
+            LOCK.lock();
+            try {
+                if (instance == null) {
+                    instance = new EnrolledListSqlGenerator();
+                    INSTANCE_CREATED.set(true);
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Method that inserts enrolled users to user_enrolled and updates
+     * status of all applicants. Transaction is controlled by caller.
+     *
+     * @param connection {@link Connection}
+     * @return {@link int[]} count of applicants and count of enrolled users
+     * @throws SQLException exception
+     */
+    public int[] generate(Connection connection) throws SQLException {
+        try (PreparedStatement insertStatement = connection.prepareStatement(SQL_INSERT_RANKED_USERS_ENROLLED);
+             PreparedStatement updateStatement = connection.prepareStatement(SQL_UPDATE_USERS_STATUS)
+        ) {
+            int enrolled = insertStatement.executeUpdate();
+            updateStatement.setInt(1, EnumUserStatus.ENROLLED.getId());
+            updateStatement.setInt(2, EnumUserStatus.NO_ENROLLED.getId());
+            int processed = updateStatement.executeUpdate();
+            return new int[]{processed, enrolled};
+        }
+    }
+}
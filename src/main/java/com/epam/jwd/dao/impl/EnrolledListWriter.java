@@ -0,0 +1,174 @@
+package com.epam.jwd.dao.impl;
+
+import com.epam.jwd.entity.EnrollmentReport;
+import com.epam.jwd.entity.User;
+import lombok.extern.log4j.Log4j2;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Class that saves enrolled list ranked in memory. Statuses of all
+ * users and enrolled users are sent in one transaction by JDBC batches
+ * or multi-row INSERT statements. Connection is given by caller.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+@Log4j2
+public class EnrolledListWriter {
+
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final AtomicBoolean INSTANCE_CREATED = new AtomicBoolean(false);
+    private static EnrolledListWriter instance;
+
+    private static final String SQL_UPDATE_USER_STATUS = "UPDATE app_user SET status_id = ? WHERE id = ?";
+
+    private static final String SQL_INSERT_USER_ENROLLED = "INSERT INTO user_enrolled (user_id, sum_score) VALUES (?,?)";
+
+    private static final String SQL_INSERT_USERS_ENROLLED = "INSERT INTO user_enrolled (user_id, sum_score) VALUES ";
+
+    private static final String SQL_INSERT_USERS_ENROLLED_ROW = "(?,?)";
+
+    public static EnrolledListWriter getInstance() {
+        if (!INSTANCE_CREATED.get()) {
+            LOCK.lock();
+            try {
+                if (instance == null) {
+                    instance = new EnrolledListWriter();
+                    INSTANCE_CREATED.set(true);
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Method that saves statuses of all {@link User} and inserts enrolled
+     * {@link User} to enrolled list in one transaction. Transaction is
+     * rolled back on any error, connection isn't closed.
+     *
+     * @param connection   {@link Connection} connection
+     * @param userList     {@link List<User>} all users with new status
+     * @param enrolledList {@link List<User>} enrolled users with sum of exams
+     * @param batchSize    {@link Integer} count of rows in one batch or statement
+     * @param multiRow     {@link Boolean} true for multi-row INSERT, false for JDBC batches
+     * @return {@link EnrollmentReport} rows processed and time taken
+     */
+    public EnrollmentReport save(Connection connection, List<User> userList, List<User> enrolledList,
+                                 int batchSize, boolean multiRow) {
+        long start = System.nanoTime();
+        boolean committed = false;
+        try {
+            connection.setAutoCommit(false);
+            updateStatuses(connection, userList, batchSize);
+            if (multiRow) {
+                insertByMultiRow(connection, enrolledList, batchSize);
+            } else {
+                insertByBatch(connection, enrolledList, batchSize);
+            }
+            connection.commit();
+            committed = true;
+            log.info("Enrolled list are saved into database");
+        } catch (SQLException e) {
+            log.error("Can't save enrolled list " + e);
+            try {
+                connection.rollback();
+                log.error("Connection rollback");
+            } catch (SQLException ex) {
+                log.error("Can't rollback connection " + ex);
+            }
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                log.error("Can't restore auto commit " + e);
+            }
+        }
+        return new EnrollmentReport(committed,
+                committed ? userList.size() : 0,
+                committed ? enrolledList.size() : 0,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Method that updates status of {@link User} by JDBC batches.
+     *
+     * @param connection {@link Connection} connection with opened transaction
+     * @param userList   {@link List<User>} all users with new status
+     * @param batchSize  {@link Integer} count of rows in one batch
+     * @throws SQLException exception
+     */
+    private void updateStatuses(Connection connection, List<User> userList, int batchSize) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(SQL_UPDATE_USER_STATUS)) {
+            int count = 0;
+            for (User user : userList) {
+                preparedStatement.setInt(1, user.getUserStatus().getId());
+                preparedStatement.setInt(2, user.getId());
+                preparedStatement.addBatch();
+                if (++count % batchSize == 0) {
+                    preparedStatement.executeBatch();
+                }
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+
+    /**
+     * Method that inserts {@link User} to enrolled list by JDBC batches.
+     *
+     * @param connection   {@link Connection} connection with opened transaction
+     * @param enrolledList {@link List<User>} enrolled users
+     * @param batchSize    {@link Integer} count of rows in one batch
+     * @throws SQLException exception
+     */
+    private void insertByBatch(Connection connection, List<User> enrolledList, int batchSize)
+            throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(SQL_INSERT_USER_ENROLLED)) {
+            int count = 0;
+            for (User user : enrolledList) {
+                preparedStatement.setInt(1, user.getId());
+                preparedStatement.setInt(2, user.getSumExams());
+                preparedStatement.addBatch();
+                if (++count % batchSize == 0) {
+                    preparedStatement.executeBatch();
+                }
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+
+    /**
+     * Method that inserts {@link User} to enrolled list by multi-row INSERT statements.
+     *
+     * @param connection   {@link Connection} connection with opened transaction
+     * @param enrolledList {@link List<User>} enrolled users
+     * @param batchSize    {@link Integer} count of rows in one statement
+     * @throws SQLException exception
+     */
+    private void insertByMultiRow(Connection connection, List<User> enrolledList, int batchSize)
+            throws SQLException {
+        for (int from = 0; from < enrolledList.size(); from += batchSize) {
+            List<User> rows = enrolledList.subList(from, Math.min(from + batchSize, enrolledList.size()));
+            String sql = SQL_INSERT_USERS_ENROLLED
+                    + String.join(",", Collections.nCopies(rows.size(), SQL_INSERT_USERS_ENROLLED_ROW));
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                int index = 1;
+                for (User user : rows) {
+                    preparedStatement.setInt(index++, user.getId());
+                    preparedStatement.setInt(index++, user.getSumExams());
+                }
+                preparedStatement.executeUpdate();
+            }
+        }
+    }
+}
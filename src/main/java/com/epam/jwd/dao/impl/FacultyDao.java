@@ -138,14 +138,16 @@ public class FacultyDao implements AbstractDao<Faculty> {
      * Method that updates {@link Faculty}.
      *
      * @param faculty {@link Faculty}
+     * @return {@link Boolean} true, if faculty is updated
      */
     @Override
-    public void update(Faculty faculty) {
+    public boolean update(Faculty faculty) {
+        boolean updated = false;
         Connection connection = getConnection();
         try (PreparedStatement preparedStatement = connection.prepareStatement(SQL_UPDATE_FACULTY)) {
             preparedStatement.setInt(1, faculty.getCountPlaces());
             preparedStatement.setInt(2, faculty.getType().getId());
-            preparedStatement.executeUpdate();
+            updated = preparedStatement.executeUpdate() > 0;
             log.info("Faculty are updated into database");
         } catch (SQLException e) {
             log.error("Error to update a new faculty " + e);
@@ -153,6 +155,7 @@ public class FacultyDao implements AbstractDao<Faculty> {
             connectionPool.releaseConnection(connection);
             log.info("Connection are returned to pool");
         }
+        return updated;
     }
 
     @Override
@@ -0,0 +1,127 @@
+package com.epam.jwd.dao.impl;
+
+import com.epam.jwd.entity.UserCriteria;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class that converts {@link UserCriteria} to the parameterised
+ * WHERE clause of the user select. Only non-null strings and
+ * non-zero numbers of criteria are added to the clause.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+public class UserCriteriaQueryBuilder {
+
+    private static final String WHERE = "\nWHERE ";
+    private static final String AND = "\n  AND ";
+    private static final String ORDER_BY_ID = "\nORDER BY app_user.id";
+    private static final String LIMIT = "\nLIMIT ? OFFSET ?";
+
+    /**
+     * Strings are compared as binary to keep case-sensitive
+     * equality, the column itself is not cast to keep the index.
+     */
+    private static final String STRING_CONDITION = " = BINARY ?";
+    private static final String INT_CONDITION = " = ?";
+
+    private final StringBuilder sql = new StringBuilder();
+    private final List<Object> params = new ArrayList<>();
+    private int limit;
+    private int offset;
+
+    public UserCriteriaQueryBuilder(final UserCriteria uc) {
+        addString("app_user.login", uc.getLogin());
+        addString("app_user.password", uc.getPassword());
+        addString("app_user.email", uc.getEmail());
+        addString("app_user.firstname", uc.getFirstname());
+        addString("app_user.lastname", uc.getLastname());
+        addInt("app_user.id", uc.getId());
+        addInt("uc.average_score", uc.getAverageScore());
+        addInt("uc.russian_score", uc.getRussianExamScore());
+        addInt("uc.math_score", uc.getMathExamScore());
+        addInt("uc.physics_score", uc.getPhysicsExamScore());
+        addInt("rf.faculty_id", uc.getFacultyId());
+    }
+
+    /**
+     * Method that sets max count of selected rows, zero means without limit.
+     *
+     * @param limit {@link Integer} max count of rows
+     * @return {@link UserCriteriaQueryBuilder}
+     */
+    public UserCriteriaQueryBuilder setLimit(final int limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Method that sets count of skipped rows, works only with limit.
+     *
+     * @param offset {@link Integer} count of skipped rows
+     * @return {@link UserCriteriaQueryBuilder}
+     */
+    public UserCriteriaQueryBuilder setOffset(final int offset) {
+        this.offset = offset;
+        return this;
+    }
+
+    /**
+     * Method that returns WHERE, ORDER BY and LIMIT clauses.
+     *
+     * @return {@link String} SQL clauses
+     */
+    public String getSql() {
+        return sql + ORDER_BY_ID + (limit > 0 ? LIMIT : "");
+    }
+
+    /**
+     * Method that returns values of parameters in order of placeholders.
+     *
+     * @return {@link List<Object>} parameters
+     */
+    public List<Object> getParams() {
+        List<Object> list = new ArrayList<>(params);
+        if (limit > 0) {
+            list.add(limit);
+            list.add(offset);
+        }
+        return list;
+    }
+
+    /**
+     * Method that sets parameters to {@link PreparedStatement}
+     * created from {@link #getSql()}.
+     *
+     * @param preparedStatement {@link PreparedStatement}
+     * @throws SQLException exception
+     */
+    public void setParameters(final PreparedStatement preparedStatement) throws SQLException {
+        List<Object> list = getParams();
+        for (int i = 0; i < list.size(); i++) {
+            preparedStatement.setObject(i + 1, list.get(i));
+        }
+    }
+
+    private void addString(final String column, final String value) {
+        if (value != null) {
+            addCondition(column + STRING_CONDITION, value);
+        }
+    }
+
+    private void addInt(final String column, final int value) {
+        if (value != 0) {
+            addCondition(column + INT_CONDITION, value);
+        }
+    }
+
+    private void addCondition(final String condition, final Object value) {
+        sql.append(params.isEmpty() ? WHERE : AND).append(condition);
+        params.add(value);
+    }
+}
@@ -1,7 +1,12 @@
 package com.epam.jwd.dao.impl;
 
+import com.epam.jwd.context.config.DatabaseConfiguration;
 import com.epam.jwd.dao.AbstractDao;
+import com.epam.jwd.entity.EnrollmentReport;
+import com.epam.jwd.entity.EnumUserSort;
 import com.epam.jwd.entity.User;
+import com.epam.jwd.entity.UserCriteria;
+import com.epam.jwd.entity.UserPage;
 import com.epam.jwd.pool.ConnectionPool;
 import lombok.extern.log4j.Log4j2;
 
@@ -9,10 +14,10 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -30,6 +35,10 @@ public class UserDao implements AbstractDao<User> {
     private static final AtomicBoolean INSTANCE_CREATED = new AtomicBoolean(false);
     private static final UserResultSet userResultSet = UserResultSet.getInstance();
     public static ConnectionPool connectionPool = ConnectionPool.getInstance();
+    private static final DatabaseConfiguration databaseConfiguration = DatabaseConfiguration.getInstance();
+    private static final EnrolledListSqlGenerator enrolledListSqlGenerator = EnrolledListSqlGenerator.getInstance();
+    private static final EnrolledListWriter enrolledListWriter = EnrolledListWriter.getInstance();
+    private static final UserPageReader userPageReader = UserPageReader.getInstance();
     private static UserDao instance;
 
     private static final String SQL_SELECT_ALL_USERS = "SELECT app_user.*,\n" +
@@ -53,10 +62,12 @@ public class UserDao implements AbstractDao<User> {
             "         JOIN user_certificate uc on app_user.id = uc.user_id\n" +
             "WHERE id = ?";
 
+    private static final String SQL_SELECT_USER_BY_LOGIN = SQL_SELECT_ALL_USERS + "\nWHERE login = ?";
+
     private static final String SQL_SELECT_MAX_ID = "SELECT MAX(id) FROM app_user";
 
     private static final String SQL_INSERT_USER =
-            "INSERT INTO app_user (id, login, password, firstname, lastname, email, role_id, status_id) VALUES (?,?,?,?,?,?,?,?)";
+            "INSERT INTO app_user (login, password, firstname, lastname, email, role_id, status_id) VALUES (?,?,?,?,?,?,?)";
 
     private static final String SQL_INSERT_USER_CERTIFICATE
             = "INSERT INTO user_certificate(average_score, russian_score, math_score, physics_score, user_id) VALUES (?,?,?,?,?)";
@@ -103,7 +114,19 @@ public class UserDao implements AbstractDao<User> {
 
     private static final String SQL_DELETE_ALL_USER_ENROLLED = "DELETE FROM user_enrolled";
 
-    private static final String SQL_SELECT_ID_USER_ENROLLED = "SELECT * FROM user_enrolled";
+    private static final String SQL_SELECT_ENROLLED_WITH_USERS = "SELECT app_user.*,\n" +
+            "       rf.faculty_id,\n" +
+            "       uc.average_score,\n" +
+            "       uc.russian_score,\n" +
+            "       uc.math_score,\n" +
+            "       uc.physics_score,\n" +
+            "       ue.sum_score\n" +
+            "FROM user_enrolled ue\n" +
+            "         JOIN app_user on ue.user_id = app_user.id\n" +
+            "         JOIN registered_faculty rf on app_user.id = rf.user_id\n" +
+            "         JOIN user_certificate uc on app_user.id = uc.user_id\n" +
+            "ORDER BY rf.faculty_id, ue.sum_score DESC, uc.math_score DESC, uc.physics_score DESC,\n" +
+            "         uc.russian_score DESC, uc.average_score DESC, app_user.id";
 
     public static UserDao getInstance() {
         if (!INSTANCE_CREATED.get()) {
@@ -143,6 +166,61 @@ public class UserDao implements AbstractDao<User> {
         return userList;
     }
 
+    /**
+     * Method that selects {@link User} from database by {@link UserCriteria}.
+     *
+     * @param uc     {@link UserCriteria}
+     * @param limit  {@link Integer} max count of users, zero means without limit
+     * @param offset {@link Integer} count of skipped users
+     * @return {@link List<User>}
+     */
+    public List<User> selectByCriteria(UserCriteria uc, int limit, int offset) {
+        List<User> userList = new ArrayList<>();
+        UserCriteriaQueryBuilder queryBuilder = new UserCriteriaQueryBuilder(uc)
+                .setLimit(limit)
+                .setOffset(offset);
+        Connection connection = getConnection();
+        try (PreparedStatement preparedStatement =
+                     connection.prepareStatement(SQL_SELECT_ALL_USERS + queryBuilder.getSql())) {
+            queryBuilder.setParameters(preparedStatement);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            while (resultSet.next()) {
+                userList.add(userResultSet.execute(resultSet));
+            }
+            log.info("Select by criteria from app_user");
+        } catch (SQLException e) {
+            log.error("Error to select by criteria from app_user " + e);
+        } finally {
+            connectionPool.releaseConnection(connection);
+            log.info("Connection are returned to pool");
+        }
+        return userList;
+    }
+
+    /**
+     * Method that selects page of {@link User} after given id and
+     * count of all users.
+     *
+     * @param afterId {@link Integer} id of last user of previous page, zero for first page
+     * @param limit   {@link Integer} size of page
+     * @param sort    {@link EnumUserSort} order by id
+     * @return {@link UserPage}
+     */
+    public UserPage selectPage(int afterId, int limit, EnumUserSort sort) {
+        UserPage page = new UserPage(new ArrayList<>(), sort, afterId, false, 0);
+        Connection connection = getConnection();
+        try {
+            page = userPageReader.read(connection, afterId, limit, sort);
+            log.info("Select page from app_user after " + afterId);
+        } catch (SQLException e) {
+            log.error("Error to select page from app_user " + e);
+        } finally {
+            connectionPool.releaseConnection(connection);
+            log.info("Connection are returned to pool");
+        }
+        return page;
+    }
+
     /**
      * Method that selects {@link User} from database by id.
      *
@@ -169,28 +247,63 @@ public class UserDao implements AbstractDao<User> {
         return user;
     }
 
+    /**
+     * Method that selects {@link User} from database by login.
+     * Lookup uses unique index on app_user.login.
+     *
+     * @param login {@link String}
+     * @return {@link User} or null, if not found
+     */
+    public User selectByLogin(String login) {
+        User user = null;
+        Connection connection = getConnection();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(SQL_SELECT_USER_BY_LOGIN)) {
+            preparedStatement.setString(1, login);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            if (resultSet.next()) {
+                user = userResultSet.execute(resultSet);
+            }
+            log.info("Select user by login from app_user");
+        } catch (SQLException e) {
+            log.error("Error to select user by login from app_user " + e);
+        } finally {
+            connectionPool.releaseConnection(connection);
+            log.info("Connection are returned to pool");
+        }
+        return user;
+    }
+
     /**
      * Method that inserts {@link User} to database.
      *
      * @param user {@link User}
-     * @return {@link Boolean}
+     * @return {@link Boolean} false, if transaction is rolled back, e.g. login is taken
      */
     @Override
     public boolean insert(User user) {
+        boolean committed = false;
         Connection connection = getConnection();
-        try (PreparedStatement preparedStatement1 = connection.prepareStatement(SQL_INSERT_USER);
+        try (PreparedStatement preparedStatement1 = connection.prepareStatement(SQL_INSERT_USER,
+                Statement.RETURN_GENERATED_KEYS);
              PreparedStatement preparedStatement2 = connection.prepareStatement(SQL_INSERT_USER_CERTIFICATE);
              PreparedStatement preparedStatement3 = connection.prepareStatement(SQL_INSERT_USER_FACULTY);
         ) {
             connection.setAutoCommit(false);
             initPreparedStatement1(preparedStatement1, user);
             preparedStatement1.executeUpdate();
+            try (ResultSet generatedKeys = preparedStatement1.getGeneratedKeys()) {
+                if (!generatedKeys.next()) {
+                    throw new SQLException("Id of user isn't generated");
+                }
+                user.setId(generatedKeys.getInt(1));
+            }
             initPreparedStatement2(preparedStatement2, user);
             preparedStatement2.executeUpdate();
             initPreparedStatement3(preparedStatement3, user);
             preparedStatement3.executeUpdate();
             log.info("User are inserted into database");
             connection.commit();
+            committed = true;
         } catch (SQLException e) {
             log.error("Can't add user" + e);
             try {
@@ -208,16 +321,18 @@ public class UserDao implements AbstractDao<User> {
                 log.error("Can't release a connection " + e);
             }
         }
-        return true;
+        return committed;
     }
 
     /**
      * Method that update {@link User}.
      *
      * @param user {@link User}
+     * @return {@link Boolean} true, if transaction is committed
      */
     @Override
-    public void update(User user) {
+    public boolean update(User user) {
+        boolean committed = false;
         Connection connection = getConnection();
         try (PreparedStatement preparedStatement1 = connection.prepareStatement(SQL_UPDATE_USER);
              PreparedStatement preparedStatement2 = connection.prepareStatement(SQL_UPDATE_USER_CERTIFICATE);
@@ -225,6 +340,7 @@ public class UserDao implements AbstractDao<User> {
         ) {
             connection.setAutoCommit(false);
             initPreparedStatement1(preparedStatement1, user);
+            preparedStatement1.setInt(8, user.getId());
             preparedStatement1.executeUpdate();
             initPreparedStatement2(preparedStatement2, user);
             preparedStatement2.executeUpdate();
@@ -232,6 +348,7 @@ public class UserDao implements AbstractDao<User> {
             preparedStatement3.executeUpdate();
             log.info("User are updated into database");
             connection.commit();
+            committed = true;
         } catch (SQLException e) {
             log.error("Can't update user" + e);
             try {
@@ -249,6 +366,7 @@ public class UserDao implements AbstractDao<User> {
                 log.error("Can't release a connection " + e);
             }
         }
+        return committed;
     }
 
     /**
@@ -371,6 +489,65 @@ public class UserDao implements AbstractDao<User> {
         }
     }
 
+    /**
+     * Method that saves statuses of all {@link User} and inserts enrolled
+     * {@link User} to enrolled list by {@link EnrolledListWriter} in one
+     * transaction, by JDBC batches or multi-row INSERT statements.
+     *
+     * @param userList     {@link List<User>} all users with new status
+     * @param enrolledList {@link List<User>} enrolled users with sum of exams
+     * @return {@link EnrollmentReport} rows processed and time taken
+     */
+    public EnrollmentReport saveEnrolledList(List<User> userList, List<User> enrolledList) {
+        Connection connection = getConnection();
+        try {
+            return enrolledListWriter.save(connection, userList, enrolledList,
+                    databaseConfiguration.getBatchSize(), databaseConfiguration.isMultiRowInsert());
+        } finally {
+            connectionPool.releaseConnection(connection);
+            log.info("Connection are returned to pool");
+        }
+    }
+
+    /**
+     * Method that generates enrolled list in database by
+     * {@link EnrolledListSqlGenerator} in one transaction.
+     *
+     * @return {@link EnrollmentReport} rows processed and time taken
+     */
+    public EnrollmentReport generateEnrolledList() {
+        long start = System.nanoTime();
+        boolean committed = false;
+        int[] counts = {0, 0};
+        Connection connection = getConnection();
+        try {
+            connection.setAutoCommit(false);
+            counts = enrolledListSqlGenerator.generate(connection);
+            connection.commit();
+            committed = true;
+            log.info("Enrolled list are generated in database");
+        } catch (SQLException e) {
+            log.error("Can't generate enrolled list " + e);
+            counts = new int[]{0, 0};
+            try {
+                connection.rollback();
+                log.error("Connection rollback");
+            } catch (SQLException ex) {
+                log.error("Can't rollback connection " + ex);
+            }
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+                connectionPool.releaseConnection(connection);
+                log.info("Connection are returned to pool");
+            } catch (SQLException e) {
+                log.error("Can't release a connection " + e);
+            }
+        }
+        return new EnrollmentReport(committed, counts[0], counts[1],
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
     /**
      * Method that removes all {@link User} from enrolled list.
      */
@@ -411,44 +588,47 @@ public class UserDao implements AbstractDao<User> {
     }
 
     /**
-     * Method that return {@link Map<>} with enrolled {@link User}.
+     * Method that selects enrolled {@link User} with sum of exams
+     * in one query, ordered by faculty and place in enrolled list.
      *
-     * @return {@link Map<>}
+     * @return {@link List<User>} enrolled users
      */
-    public Map<Integer, Integer> selectAllEnrolledList() {
-        Map<Integer, Integer> integerMap = new HashMap<>();
+    public List<User> selectEnrolledWithUsers() {
+        List<User> userList = new ArrayList<>();
         Connection connection = getConnection();
-        try (PreparedStatement preparedStatement = connection.prepareStatement(SQL_SELECT_ID_USER_ENROLLED)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(SQL_SELECT_ENROLLED_WITH_USERS)) {
             ResultSet resultSet = preparedStatement.executeQuery();
             while (resultSet.next()) {
-                integerMap.put(resultSet.getInt(1), resultSet.getInt(2));
+                User user = userResultSet.execute(resultSet);
+                user.setSumExams(resultSet.getInt("sum_score"));
+                userList.add(user);
             }
-            log.info("Select all id from user_enrolled");
+            log.info("Select enrolled users from user_enrolled");
         } catch (SQLException e) {
-            log.info("Error to select all id from user_enrolled" + e);
+            log.info("Error to select enrolled users from user_enrolled" + e);
         } finally {
             connectionPool.releaseConnection(connection);
             log.info("Connection are returned to pool");
         }
-        return integerMap;
+        return userList;
     }
 
     /**
-     * Method that inits {@link PreparedStatement}.
+     * Method that inits {@link PreparedStatement} columns of app_user
+     * except id, which is generated by database.
      *
      * @param preparedStatement1 {@link PreparedStatement}
      * @param user               {@link User}
      * @throws SQLException exception
      */
     private void initPreparedStatement1(PreparedStatement preparedStatement1, User user) throws SQLException {
-        preparedStatement1.setInt(1, user.getId());
-        preparedStatement1.setString(2, user.getLogin());
-        preparedStatement1.setString(3, user.getPassword());
-        preparedStatement1.setString(4, user.getFirstname());
-        preparedStatement1.setString(5, user.getLastname());
-        preparedStatement1.setString(6, user.getEmail());
-        preparedStatement1.setInt(7, user.getUserRole().getId());
-        preparedStatement1.setInt(8, user.getUserStatus().getId());
+        preparedStatement1.setString(1, user.getLogin());
+        preparedStatement1.setString(2, user.getPassword());
+        preparedStatement1.setString(3, user.getFirstname());
+        preparedStatement1.setString(4, user.getLastname());
+        preparedStatement1.setString(5, user.getEmail());
+        preparedStatement1.setInt(6, user.getUserRole().getId());
+        preparedStatement1.setInt(7, user.getUserStatus().getId());
     }
 
     /**
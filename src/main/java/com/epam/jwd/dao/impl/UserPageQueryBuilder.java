@@ -0,0 +1,74 @@
+package com.epam.jwd.dao.impl;
+
+import com.epam.jwd.entity.EnumUserSort;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Class that builds WHERE, ORDER BY and LIMIT clauses of user page.
+ * Page begins after id of last user of previous page, so database
+ * seeks by primary key and deep pages are as fast as the first one.
+ * One extra row is selected to know if there is next page.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+public class UserPageQueryBuilder {
+
+    private static final String AFTER_ASC = "\nWHERE app_user.id > ?";
+    private static final String AFTER_DESC = "\nWHERE app_user.id < ?";
+    private static final String ORDER_BY_ID_ASC = "\nORDER BY app_user.id";
+    private static final String ORDER_BY_ID_DESC = "\nORDER BY app_user.id DESC";
+    private static final String LIMIT = "\nLIMIT ?";
+
+    private final int afterId;
+    private final int limit;
+    private final EnumUserSort sort;
+
+    /**
+     * @param afterId {@link Integer} id of last user of previous page, zero for first page
+     * @param limit   {@link Integer} size of page
+     * @param sort    {@link EnumUserSort} order by id
+     */
+    public UserPageQueryBuilder(final int afterId, final int limit, final EnumUserSort sort) {
+        this.afterId = afterId;
+        this.limit = limit;
+        this.sort = sort;
+    }
+
+    /**
+     * Method that returns WHERE, ORDER BY and LIMIT clauses.
+     *
+     * @return {@link String} SQL clauses
+     */
+    public String getSql() {
+        StringBuilder sql = new StringBuilder();
+        if (afterId > 0) {
+            sql.append(sort == EnumUserSort.DESC ? AFTER_DESC : AFTER_ASC);
+        }
+        return sql.append(sort == EnumUserSort.DESC ? ORDER_BY_ID_DESC : ORDER_BY_ID_ASC)
+                .append(LIMIT)
+                .toString();
+    }
+
+    /**
+     * Method that sets parameters to {@link PreparedStatement}
+     * created from {@link #getSql()}.
+     *
+     * @param preparedStatement {@link PreparedStatement}
+     * @throws SQLException exception
+     */
+    public void setParameters(final PreparedStatement preparedStatement) throws SQLException {
+        int index = 1;
+        if (afterId > 0) {
+            preparedStatement.setInt(index++, afterId);
+        }
+        preparedStatement.setInt(index, limit + 1);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,92 @@
+package com.epam.jwd.dao.impl;
+
+import com.epam.jwd.entity.EnumUserSort;
+import com.epam.jwd.entity.User;
+import com.epam.jwd.entity.UserPage;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Class that reads page of {@link User} and count of all users.
+ * Page and count are selected from the same joined tables, so count
+ * agrees with rows, which pages show. Connection is given by caller.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+public class UserPageReader {
+
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final AtomicBoolean INSTANCE_CREATED = new AtomicBoolean(false);
+    private static final UserResultSet userResultSet = UserResultSet.getInstance();
+    private static UserPageReader instance;
+
+    private static final String SQL_FROM_USERS = "FROM app_user\n" +
+            "         JOIN registered_faculty rf on app_user.id = rf.user_id\n" +
+            "         JOIN user_certificate uc on app_user.id = uc.user_id";
+
+    private static final String SQL_SELECT_USERS = "SELECT app_user.*,\n" +
+            "       rf.faculty_id,\n" +
+            "       uc.average_score,\n" +
+            "       uc.russian_score,\n" +
+            "       uc.math_score,\n" +
+            "       uc.physics_score\n" +
+            SQL_FROM_USERS;
+
+    private static final String SQL_COUNT_USERS = "SELECT COUNT(*)\n" + SQL_FROM_USERS;
+
+    public static UserPageReader getInstance() {
+        if (!INSTANCE_CREATED.get()) {
+            LOCK.lock();
+            try {
+                if (instance == null) {
+                    instance = new UserPageReader();
+                    INSTANCE_CREATED.set(true);
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Method that selects page of {@link User} after given id and
+     * count of all users, connection isn't closed.
+     *
+     * @param connection {@link Connection} connection
+     * @param afterId    {@link Integer} id of last user of previous page, zero for first page
+     * @param limit      {@link Integer} size of page
+     * @param sort       {@link EnumUserSort} order by id
+     * @return {@link UserPage}
+     * @throws SQLException exception
+     */
+    public UserPage read(Connection connection, int afterId, int limit, EnumUserSort sort) throws SQLException {
+        List<User> userList = new ArrayList<>();
+        int totalCount = 0;
+        UserPageQueryBuilder queryBuilder = new UserPageQueryBuilder(afterId, limit, sort);
+        try (PreparedStatement preparedStatement =
+                     connection.prepareStatement(SQL_SELECT_USERS + queryBuilder.getSql());
+             PreparedStatement countStatement = connection.prepareStatement(SQL_COUNT_USERS)) {
+            queryBuilder.setParameters(preparedStatement);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            while (resultSet.next()) {
+                userList.add(userResultSet.execute(resultSet));
+            }
+            ResultSet countResultSet = countStatement.executeQuery();
+            if (countResultSet.next()) {
+                totalCount = countResultSet.getInt(1);
+            }
+        }
+        boolean hasNext = userList.size() > limit;
+        return new UserPage(hasNext ? userList.subList(0, limit) : userList, sort, afterId, hasNext, totalCount);
+    }
+}
@@ -39,7 +39,8 @@ public class UserResultSet implements EntityResultSet<User> {
      */
     @Override
     public User execute(ResultSet resultSet) throws SQLException {
-        User temp = new User(new UserBuilder()
+        return new User(new UserBuilder()
+                .setId(resultSet.getInt(1))
                 .setLogin(resultSet.getString(2))
                 .setPassword(resultSet.getString(3))
                 .setFirstname(resultSet.getString(4))
@@ -52,7 +53,5 @@ public class UserResultSet implements EntityResultSet<User> {
                 .setRussianExamScore(resultSet.getInt(11))
                 .setMathExamScore(resultSet.getInt(12))
                 .setPhysicsExamScore(resultSet.getInt(13)));
-        temp.setId(resultSet.getInt(1));
-        return temp;
     }
 }
@@ -44,7 +44,7 @@ public class UserRoleDao implements AbstractDao<EnumUserRole> {
     }
 
     @Override
-    public void update(EnumUserRole enumUserRole) throws UnknownMethodException {
+    public boolean update(EnumUserRole enumUserRole) throws UnknownMethodException {
         throw new UnknownMethodException();
     }
 
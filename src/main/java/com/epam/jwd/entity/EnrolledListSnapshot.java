@@ -0,0 +1,58 @@
+package com.epam.jwd.entity;
+
+import com.epam.jwd.exception.UnknownEnumFacultyException;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable POJO class - enrolled list at the moment of its
+ * generation, grouped by {@link EnumFaculty}.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+@Getter
+@ToString(of = {"version", "eTag"})
+public final class EnrolledListSnapshot extends Entity {
+
+    private final long version;
+    private final String eTag;
+    private final List<User> users;
+    private final Map<EnumFaculty, List<User>> usersByFaculty;
+
+    public EnrolledListSnapshot(final long version, final String eTag, final List<User> users) {
+        this.version = version;
+        this.eTag = eTag;
+        this.users = Collections.unmodifiableList(new ArrayList<>(users));
+        this.usersByFaculty = Collections.unmodifiableMap(groupByFaculty(this.users));
+    }
+
+    /**
+     * Method that groups users by faculty keeping their order.
+     *
+     * @param users {@link List<User>} enrolled users
+     * @return {@link Map<>} users of each faculty
+     */
+    private static Map<EnumFaculty, List<User>> groupByFaculty(List<User> users) {
+        Map<EnumFaculty, List<User>> map = new EnumMap<>(EnumFaculty.class);
+        for (EnumFaculty faculty : EnumFaculty.values()) {
+            map.put(faculty, new ArrayList<>());
+        }
+        for (User user : users) {
+            try {
+                map.get(EnumFaculty.resolveById(user.getFacultyId())).add(user);
+            } catch (UnknownEnumFacultyException e) {
+                // user of unknown faculty is skipped
+            }
+        }
+        map.replaceAll((faculty, list) -> Collections.unmodifiableList(list));
+        return map;
+    }
+}
@@ -0,0 +1,29 @@
+package com.epam.jwd.entity;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * POJO class - result of enrolled list generation.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+@Getter
+@ToString
+public class EnrollmentReport extends Entity {
+
+    private final boolean committed;
+    private final int processedUsers;
+    private final int enrolledUsers;
+    private final long elapsedMillis;
+
+    public EnrollmentReport(final boolean committed, final int processedUsers,
+                            final int enrolledUsers, final long elapsedMillis) {
+        this.committed = committed;
+        this.processedUsers = processedUsers;
+        this.enrolledUsers = enrolledUsers;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
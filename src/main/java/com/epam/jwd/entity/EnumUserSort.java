@@ -0,0 +1,23 @@
+package com.epam.jwd.entity;
+
+/**
+ * Class enum, which sets order of {@link User} pages by id.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+public enum EnumUserSort {
+    ASC,
+    DESC;
+
+    /**
+     * Method that resolves sort by name from request.
+     *
+     * @param name {@link String} name of sort, may be null
+     * @return {@link EnumUserSort} sort, ASC if name is unknown
+     */
+    public static EnumUserSort resolveByName(String name) {
+        return "desc".equalsIgnoreCase(name) ? DESC : ASC;
+    }
+}
@@ -23,4 +23,13 @@ public class Faculty extends Entity {
         this.type = type;
         this.countPlaces = countPlaces;
     }
+
+    /**
+     * Method that returns independent copy of faculty.
+     *
+     * @return {@link Faculty} copy
+     */
+    public Faculty copy() {
+        return new Faculty(type, countPlaces);
+    }
 }
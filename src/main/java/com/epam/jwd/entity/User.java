@@ -16,8 +16,6 @@ import lombok.ToString;
 @ToString
 public class User extends Entity {
 
-    public static int COUNT_ID = 0;
-
     private String login;
     private String password;
     private String email;
@@ -49,7 +47,21 @@ public class User extends Entity {
         physicsExamScore = builder.getPhysicsExamScore();
         facultyId = builder.getFacultyId();
         userStatus = builder.getUserStatus();
-        id = ++COUNT_ID;
+        id = builder.getId();
+    }
+
+    /**
+     * Method that returns independent copy of user, all fields are
+     * immutable values, so shallow clone is enough.
+     *
+     * @return {@link User} copy
+     */
+    public User copy() {
+        try {
+            return (User) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("User can't be cloned", e);
+        }
     }
 
 
@@ -0,0 +1,36 @@
+package com.epam.jwd.entity;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * POJO class - one page of {@link User} list. Next page is
+ * selected after id of the last user on this page.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+@Getter
+@ToString(exclude = "users")
+public class UserPage extends Entity {
+
+    private final List<User> users;
+    private final EnumUserSort sort;
+    private final int afterId;
+    private final int nextAfterId;
+    private final boolean hasNext;
+    private final int totalCount;
+
+    public UserPage(final List<User> users, final EnumUserSort sort, final int afterId,
+                    final boolean hasNext, final int totalCount) {
+        this.users = users;
+        this.sort = sort;
+        this.afterId = afterId;
+        this.nextAfterId = users.isEmpty() ? afterId : users.get(users.size() - 1).getId();
+        this.hasNext = hasNext;
+        this.totalCount = totalCount;
+    }
+}
@@ -0,0 +1,12 @@
+package com.epam.jwd.exception;
+
+public class ConnectionPoolException extends RuntimeException {
+
+    public ConnectionPoolException(String message) {
+        super(message);
+    }
+
+    public ConnectionPoolException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
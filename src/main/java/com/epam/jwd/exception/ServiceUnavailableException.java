@@ -0,0 +1,8 @@
+package com.epam.jwd.exception;
+
+public class ServiceUnavailableException extends Exception {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
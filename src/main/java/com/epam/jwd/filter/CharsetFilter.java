@@ -1,5 +1,7 @@
 package com.epam.jwd.filter;
 
+import com.epam.jwd.util.StaticResourceUtil;
+
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
 import javax.servlet.FilterConfig;
@@ -23,6 +25,10 @@ public class CharsetFilter implements Filter {
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain filterChain) throws IOException, ServletException {
+        if (StaticResourceUtil.isStaticResource(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
         if (request.getCharacterEncoding() == null) {
             request.setCharacterEncoding(encoding);
         }
@@ -3,8 +3,9 @@ package com.epam.jwd.filter;
 import com.epam.jwd.context.PathToPages;
 import com.epam.jwd.context.config.AdminConfiguration;
 import com.epam.jwd.entity.User;
-import com.epam.jwd.entity.UserCriteria;
-import com.epam.jwd.service.UserService;
+import com.epam.jwd.exception.ServiceUnavailableException;
+import com.epam.jwd.service.LoginVerifier;
+import com.epam.jwd.util.StaticResourceUtil;
 import lombok.extern.log4j.Log4j2;
 
 import javax.servlet.Filter;
@@ -17,10 +18,11 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 import java.io.IOException;
-import java.util.Optional;
 
 /**
  * Login Filter that set {@link User} in {@link HttpSession}.
+ * Session is created only on sign in, static resources
+ * and anonymous requests pass without session.
  *
  * @author Maxim Semenko
  * @version 0.0.1
@@ -30,6 +32,8 @@ import java.util.Optional;
 @Log4j2
 public class LoginFilter implements Filter {
 
+    private static final String RETRY_AFTER_SECONDS = "5";
+
     /**
      * Method that filter {@link User } user signIn.
      *
@@ -44,18 +48,35 @@ public class LoginFilter implements Filter {
         final HttpServletRequest req = (HttpServletRequest) servletRequest;
         final HttpServletResponse resp = (HttpServletResponse) servletResponse;
 
+        if (StaticResourceUtil.isStaticResource(req)) {
+            filterChain.doFilter(servletRequest, servletResponse);
+            return;
+        }
+
         final String login = req.getParameter("signIn_login");
         final String password = req.getParameter("signIn_password");
+        final boolean isSignIn = login != null && password != null;
 
-        final HttpSession session = req.getSession();
-        session.setMaxInactiveInterval(1800);
+        final HttpSession session = req.getSession(isSignIn);
+        if (session == null) {
+            filterChain.doFilter(servletRequest, servletResponse);
+            return;
+        }
 
-        if (session.getAttribute("user") == null && login != null && password != null) {
+        if (isSignIn && session.getAttribute("user") == null) {
             AdminConfiguration adminConfiguration = AdminConfiguration.getInstance();
             if (login.equals(adminConfiguration.getLogin()) && password.equals(adminConfiguration.getPassword())) {
                 session.setAttribute("user", adminConfiguration.getAdmin());
             } else {
-                setUserInSession(session, login, password);
+                try {
+                    setUserInSession(session, login, password);
+                } catch (ServiceUnavailableException e) {
+                    log.warn(e.getMessage());
+                    resp.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                    resp.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+                    req.getRequestDispatcher(PathToPages.BUSY_PAGE).forward(req, resp);
+                    return;
+                }
             }
             checkUserInSession(session);
         }
@@ -85,33 +106,19 @@ public class LoginFilter implements Filter {
 
     /**
      * Method that sets {@link User} user in {@link HttpSession} session.
+     * Password is checked on pool of {@link LoginVerifier}.
      *
      * @param session  {@link HttpSession}
      * @param login    {@link String}
      * @param password {@link String}
+     * @throws ServiceUnavailableException if verifier is saturated
      */
-    private void setUserInSession(final HttpSession session, final String login, final String password) {
-        getOptionalUser(login, password)
-                .ifPresent(user -> session.setAttribute("user", user));
-    }
-
-    /**
-     * Method that try finds {@link User} by
-     * {@link String} login and
-     * {@link String} password.
-     *
-     * @param login    {@link String}
-     * @param password {@link String}
-     * @return {@link Optional<User>}
-     */
-    private Optional<User> getOptionalUser(final String login, final String password) {
-        return UserService
+    private void setUserInSession(final HttpSession session, final String login, final String password)
+            throws ServiceUnavailableException {
+        LoginVerifier
                 .getInstance()
-                .getByCriteria(UserCriteria
-                        .builder()
-                        .login(login)
-                        .password(password)
-                        .build());
+                .verify(login, password)
+                .ifPresent(user -> session.setAttribute("user", user));
     }
 
     /**
@@ -1,5 +1,7 @@
 package com.epam.jwd.filter;
 
+import com.epam.jwd.util.StaticResourceUtil;
+
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
 import javax.servlet.FilterConfig;
@@ -24,6 +26,10 @@ public class XSSFilter implements Filter {
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, ServletException {
+        if (StaticResourceUtil.isStaticResource(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
         chain.doFilter(new XSSRequestWrapper((HttpServletRequest) request), response);
     }
 
@@ -2,72 +2,73 @@ package com.epam.jwd.filter;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
-import java.util.regex.Pattern;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class XSSRequestWrapper extends HttpServletRequestWrapper {
 
-    private static final Pattern[] patterns = new Pattern[]{
-            // Script fragments
-            Pattern.compile("<script>(.*?)</script>", Pattern.CASE_INSENSITIVE),
-            // src='...'
-            Pattern.compile("src[\r\n]*=[\r\n]*\\\'(.*?)\\\'", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            Pattern.compile("src[\r\n]*=[\r\n]*\\\"(.*?)\\\"", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            // lonely script tags
-            Pattern.compile("</script>", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("<script(.*?)>", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            // eval(...)
-            Pattern.compile("eval\\((.*?)\\)", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            // expression(...)
-            Pattern.compile("expression\\((.*?)\\)", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
-            // javascript:...
-            Pattern.compile("javascript:", Pattern.CASE_INSENSITIVE),
-            // vbscript:...
-            Pattern.compile("vbscript:", Pattern.CASE_INSENSITIVE),
-            // onload(...)=...
-            Pattern.compile("onload(.*?)=", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL)
-    };
+    private static final XSSSanitizer xssSanitizer = XSSSanitizer.getInstance();
+
+    /**
+     * Sanitised parameters, built once on first access. Request is read by one thread.
+     */
+    private Map<String, String[]> parameterMap;
+    private final Map<String, String> headers = new HashMap<>();
 
     public XSSRequestWrapper(HttpServletRequest servletRequest) {
         super(servletRequest);
     }
 
     @Override
-    public String[] getParameterValues(String parameter) {
-        String[] values = super.getParameterValues(parameter);
-
-        if (values == null) {
-            return null;
+    public Map<String, String[]> getParameterMap() {
+        if (parameterMap == null) {
+            Map<String, String[]> map = new LinkedHashMap<>();
+            for (Map.Entry<String, String[]> entry : super.getParameterMap().entrySet()) {
+                String[] values = entry.getValue();
+                String[] encodedValues = new String[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    encodedValues[i] = stripXSS(values[i]);
+                }
+                map.put(entry.getKey(), encodedValues);
+            }
+            parameterMap = Collections.unmodifiableMap(map);
         }
+        return parameterMap;
+    }
 
-        int count = values.length;
-        String[] encodedValues = new String[count];
-        for (int i = 0; i < count; i++) {
-            encodedValues[i] = stripXSS(values[i]);
-        }
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(getParameterMap().keySet());
+    }
 
-        return encodedValues;
+    @Override
+    public String[] getParameterValues(String parameter) {
+        String[] values = getParameterMap().get(parameter);
+
+        return values == null ? null : values.clone();
     }
 
     @Override
     public String getParameter(String parameter) {
-        String value = super.getParameter(parameter);
+        String[] values = getParameterMap().get(parameter);
 
-        return stripXSS(value);
+        return values == null || values.length == 0 ? null : values[0];
     }
 
     @Override
     public String getHeader(String name) {
-        String value = super.getHeader(name);
-        return stripXSS(value);
+        if (headers.containsKey(name)) {
+            return headers.get(name);
+        }
+        String value = stripXSS(super.getHeader(name));
+        headers.put(name, value);
+        return value;
     }
 
     public String stripXSS(String value) {
-        if (value != null) {
-            value = value.replaceAll("\0", "");
-            for (Pattern scriptPattern : patterns) {
-                value = scriptPattern.matcher(value).replaceAll("");
-            }
-        }
-        return value;
+        return xssSanitizer.strip(value);
     }
 }
@@ -0,0 +1,125 @@
+package com.epam.jwd.filter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * Class that removes XSS fragments from request values. Value is scanned
+ * once for beginnings of all patterns and returned as is, if nothing is
+ * found. Otherwise patterns are removed one by one in the same order as
+ * before, so result is always the same.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+public class XSSSanitizer {
+
+    private static XSSSanitizer instance;
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final AtomicBoolean INSTANCE_CREATED = new AtomicBoolean(false);
+
+    private static final Pattern[] patterns = new Pattern[]{
+            // Script fragments
+            Pattern.compile("<script>(.*?)</script>", Pattern.CASE_INSENSITIVE),
+            // src='...'
+            Pattern.compile("src[\r\n]*=[\r\n]*\\\'(.*?)\\\'", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("src[\r\n]*=[\r\n]*\\\"(.*?)\\\"", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            // lonely script tags
+            Pattern.compile("</script>", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("<script(.*?)>", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            // eval(...)
+            Pattern.compile("eval\\((.*?)\\)", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            // expression(...)
+            Pattern.compile("expression\\((.*?)\\)", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            // javascript:...
+            Pattern.compile("javascript:", Pattern.CASE_INSENSITIVE),
+            // vbscript:...
+            Pattern.compile("vbscript:", Pattern.CASE_INSENSITIVE),
+            // onload(...)=...
+            Pattern.compile("onload(.*?)=", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL)
+    };
+
+    /**
+     * Every pattern match contains one of these fragments: script tags,
+     * javascript: and vbscript: contain "script".
+     */
+    private static final String SCRIPT = "script";
+    private static final String SRC = "src";
+    private static final String EVAL = "eval(";
+    private static final String EXPRESSION = "expression(";
+    private static final String ONLOAD = "onload";
+
+    public static XSSSanitizer getInstance() {
+        if (!INSTANCE_CREATED.get()) {
+            LOCK.lock();
+            try {
+                if (instance == null) {
+                    instance = new XSSSanitizer();
+                    INSTANCE_CREATED.set(true);
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Method that removes XSS fragments.
+     *
+     * @param value {@link String} value from request
+     * @return {@link String} the same instance, if value is safe, else value without fragments
+     */
+    public String strip(String value) {
+        if (value == null || !isSuspicious(value)) {
+            return value;
+        }
+        value = value.replace("\0", "");
+        for (Pattern scriptPattern : patterns) {
+            value = scriptPattern.matcher(value).replaceAll("");
+        }
+        return value;
+    }
+
+    /**
+     * Method that scans value once and checks if any pattern can match.
+     * Letters are compared ignoring case, like patterns do.
+     *
+     * @param value {@link String} value from request
+     * @return {@link Boolean} true, if value contains beginning of any pattern or \0
+     */
+    boolean isSuspicious(String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            switch (value.charAt(i)) {
+                case '\0':
+                    return true;
+                case 's':
+                case 'S':
+                    if (value.regionMatches(true, i, SCRIPT, 0, SCRIPT.length())
+                            || value.regionMatches(true, i, SRC, 0, SRC.length())) {
+                        return true;
+                    }
+                    break;
+                case 'e':
+                case 'E':
+                    if (value.regionMatches(true, i, EVAL, 0, EVAL.length())
+                            || value.regionMatches(true, i, EXPRESSION, 0, EXPRESSION.length())) {
+                        return true;
+                    }
+                    break;
+                case 'o':
+                case 'O':
+                    if (value.regionMatches(true, i, ONLOAD, 0, ONLOAD.length())) {
+                        return true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return false;
+    }
+}
@@ -2,6 +2,10 @@ package com.epam.jwd.listener;
 
 import com.epam.jwd.context.AppContext;
 import com.epam.jwd.pool.ConnectionPool;
+import com.epam.jwd.service.LoginVerifier;
+import com.epam.jwd.service.MailDispatcher;
+import com.epam.jwd.service.UserCache;
+import com.epam.jwd.service.VerificationCodeStoreFactory;
 import lombok.extern.log4j.Log4j2;
 
 import javax.servlet.ServletContextEvent;
@@ -30,7 +34,17 @@ public class InitListener implements ServletContextListener {
      */
     @Override
     public void contextDestroyed(ServletContextEvent sce) {
-        ConnectionPool.getInstance().destroy();
-        log.info("Connection pool destroy");
+        try {
+            log.info("Sessions: active " + SessionCountListener.getActiveSessions()
+                    + ", peak " + SessionCountListener.getPeakSessions()
+                    + ", created " + SessionCountListener.getCreatedSessions());
+            MailDispatcher.shutdownIfCreated(5000);
+            VerificationCodeStoreFactory.shutdownIfCreated();
+            LoginVerifier.shutdownIfCreated();
+            UserCache.shutdownIfCreated();
+        } finally {
+            ConnectionPool.getInstance().destroy();
+            log.info("Connection pool destroy");
+        }
     }
 }
@@ -0,0 +1,52 @@
+package com.epam.jwd.listener;
+
+import lombok.extern.log4j.Log4j2;
+
+import javax.servlet.annotation.WebListener;
+import javax.servlet.http.HttpSessionEvent;
+import javax.servlet.http.HttpSessionListener;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Listener that counts {@link javax.servlet.http.HttpSession} sessions:
+ * current count, peak count and count of created sessions.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+@Log4j2
+@WebListener
+public class SessionCountListener implements HttpSessionListener {
+
+    private static final AtomicInteger ACTIVE_SESSIONS = new AtomicInteger();
+    private static final AtomicInteger PEAK_SESSIONS = new AtomicInteger();
+    private static final AtomicLong CREATED_SESSIONS = new AtomicLong();
+
+    @Override
+    public void sessionCreated(HttpSessionEvent se) {
+        int active = ACTIVE_SESSIONS.incrementAndGet();
+        PEAK_SESSIONS.accumulateAndGet(active, Math::max);
+        CREATED_SESSIONS.incrementAndGet();
+        log.debug("Session created, active sessions " + active);
+    }
+
+    @Override
+    public void sessionDestroyed(HttpSessionEvent se) {
+        int active = ACTIVE_SESSIONS.decrementAndGet();
+        log.debug("Session destroyed, active sessions " + active);
+    }
+
+    public static int getActiveSessions() {
+        return ACTIVE_SESSIONS.get();
+    }
+
+    public static int getPeakSessions() {
+        return PEAK_SESSIONS.get();
+    }
+
+    public static long getCreatedSessions() {
+        return CREATED_SESSIONS.get();
+    }
+}
@@ -1,18 +1,29 @@
 package com.epam.jwd.pool;
 
 import com.epam.jwd.context.config.DatabaseConfiguration;
+import com.epam.jwd.exception.ConnectionPoolException;
 import lombok.extern.log4j.Log4j2;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * ConnectionPool class, which store all connection.
+ * Pool creates min count of connections on startup and grows
+ * lazily up to max count. Connections are validated on borrow,
+ * borrowers that hold connection too long are logged as leaks.
  *
  * @author Maxim Semenko
  * @version 0.0.1
@@ -26,16 +37,75 @@ public final class ConnectionPool {
     private static final AtomicBoolean instanceCreated = new AtomicBoolean(false);
 
     /**
-     * The queue of connections.
+     * Connection that was returned to pool less than this time ago is not validated again.
      */
-    private BlockingQueue<Connection> connectionQueue;
+    private static final long VALIDATION_BYPASS_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    /**
+     * Waiting thread retries to grow pool after this time, because broken connections free places.
+     */
+    private static final long GROW_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
     /**
      * The instance of DataBaseConfiguration.
      */
     public static DatabaseConfiguration dataBaseConfig = DatabaseConfiguration.getInstance();
 
+    /**
+     * Function that opens a new physical connection.
+     */
+    interface ConnectionFactory {
+        Connection create() throws SQLException;
+    }
+
+    /**
+     * Information about borrowed connection.
+     */
+    private static final class Borrow {
+        private final long borrowedAt = System.nanoTime();
+        private final Throwable stackTrace;
+        private volatile boolean reported;
+
+        private Borrow(Throwable stackTrace) {
+            this.stackTrace = stackTrace;
+        }
+    }
+
+    private final ConnectionFactory connectionFactory;
+    private final int minSize;
+    private final int maxSize;
+    private final long connectionTimeoutNanos;
+    private final int validationTimeoutSeconds;
+    private final long leakDetectionThresholdNanos;
+    private final int statementCacheSize;
+
+    /**
+     * The idle connections, last returned connection is borrowed first.
+     */
+    private final BlockingDeque<Connection> idleConnections = new LinkedBlockingDeque<>();
+    private final Map<Connection, Long> returnedAt = new ConcurrentHashMap<>();
+    private final Map<Connection, Borrow> borrowedConnections = new ConcurrentHashMap<>();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final AtomicInteger waitingThreads = new AtomicInteger();
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong leakCount = new AtomicLong();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+    private ScheduledExecutorService leakDetector;
 
-    private ConnectionPool() {
+    ConnectionPool(ConnectionFactory connectionFactory, int minSize, int maxSize,
+                   long connectionTimeoutMillis, int validationTimeoutMillis, long leakDetectionThresholdMillis,
+                   int statementCacheSize) {
+        this.connectionFactory = connectionFactory;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.connectionTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(connectionTimeoutMillis);
+        this.validationTimeoutSeconds = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(validationTimeoutMillis));
+        this.leakDetectionThresholdNanos = TimeUnit.MILLISECONDS.toNanos(leakDetectionThresholdMillis);
+        this.statementCacheSize = statementCacheSize;
     }
 
     public static ConnectionPool getInstance() {
@@ -54,47 +124,169 @@ public final class ConnectionPool {
     }
 
     /**
-     * Method create queue of pool connections.
+     * Method create pool with min count of connections.
      */
     private static ConnectionPool init() {
-        ConnectionPool connectionPool = new ConnectionPool();
-        connectionPool.connectionQueue = new ArrayBlockingQueue<>(dataBaseConfig.getPoolSize());
         registerDriver();
+        ConnectionPool connectionPool = new ConnectionPool(
+                () -> DriverManager.getConnection(
+                        dataBaseConfig.getJdbcUrl(),
+                        dataBaseConfig.getLogin(),
+                        dataBaseConfig.getPassword()),
+                dataBaseConfig.getMinPoolSize(),
+                dataBaseConfig.getPoolSize(),
+                dataBaseConfig.getConnectionTimeout(),
+                dataBaseConfig.getValidationTimeout(),
+                dataBaseConfig.getLeakDetectionThreshold(),
+                dataBaseConfig.getStatementCacheSize());
 
         log.info("StartUp of Connection pool");
-        for (int i = 0; i < 10; i++) {
-            connectionPool.connectionQueue.add(createConnection());
-        }
-        log.info("The connection pool was created[size: " + connectionPool.connectionQueue.size() + "]");
+        connectionPool.start();
+        log.info("The connection pool was created[size: " + connectionPool.getTotalConnections()
+                + ", max: " + connectionPool.maxSize + "]");
         return connectionPool;
     }
 
     /**
-     * Method that gets a new connection from DriverManager.
+     * Method that creates min count of connections and starts leak detection.
+     */
+    void start() {
+        for (int i = 0; i < minSize; i++) {
+            totalConnections.incrementAndGet();
+            idleConnections.add(createConnection());
+        }
+        if (leakDetectionThresholdNanos > 0) {
+            long period = Math.max(1, TimeUnit.NANOSECONDS.toMillis(leakDetectionThresholdNanos) / 2);
+            leakDetector = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "connection-pool-leak-detector");
+                thread.setDaemon(true);
+                return thread;
+            });
+            leakDetector.scheduleAtFixedRate(this::detectLeaks, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Method that gets a new connection from {@link ConnectionFactory}
+     * and wraps it to {@link PooledConnection}, if statement cache is enabled.
+     * Count of connections must be already incremented by caller.
      *
      * @return {@link Connection} a new created connection
      */
-    private static Connection createConnection() {
+    private Connection createConnection() {
         try {
+            Connection connection = connectionFactory.create();
+            if (statementCacheSize > 0) {
+                connection = new PooledConnection(connection, statementCacheSize,
+                        statementCacheHits, statementCacheMisses).getProxy();
+            }
+            returnedAt.put(connection, System.nanoTime());
             log.info("DataBase connection created");
-            return DriverManager.getConnection(
-                    dataBaseConfig.getJdbcUrl(),
-                    dataBaseConfig.getLogin(),
-                    dataBaseConfig.getPassword());
+            return connection;
         } catch (SQLException e) {
+            totalConnections.decrementAndGet();
             log.error("Can't create database connection", e);
-            throw new RuntimeException("Database connection failed");
+            throw new ConnectionPoolException("Database connection failed", e);
         }
     }
 
     /**
-     * Method that gives an available connection.
+     * Method that gives an available connection. If there is no idle
+     * connection and pool is not full, new connection is created,
+     * else it waits for released connection not longer than timeout.
      *
      * @return {@link Connection} available connection
      * @throws InterruptedException connection interrupted
+     * @throws ConnectionPoolException if no connection was available in time
      */
     public Connection getConnection() throws InterruptedException {
-        return connectionQueue.take();
+        long start = System.nanoTime();
+        long deadline = start + connectionTimeoutNanos;
+        waitingThreads.incrementAndGet();
+        try {
+            while (true) {
+                Connection connection = idleConnections.pollFirst();
+                if (connection == null) {
+                    connection = tryGrow();
+                }
+                if (connection == null) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        timeoutCount.incrementAndGet();
+                        throw new ConnectionPoolException("Can't get connection in "
+                                + TimeUnit.NANOSECONDS.toMillis(connectionTimeoutNanos) + " ms, active: "
+                                + getActiveConnections() + ", waiting: " + waitingThreads.get());
+                    }
+                    connection = idleConnections.pollFirst(Math.min(remaining, GROW_RETRY_NANOS), TimeUnit.NANOSECONDS);
+                    if (connection == null) {
+                        continue;
+                    }
+                }
+                if (isAlive(connection)) {
+                    borrowedConnections.put(connection,
+                            new Borrow(leakDetectionThresholdNanos > 0 ? new Throwable("Connection borrowed here") : null));
+                    return connection;
+                }
+                discard(connection);
+            }
+        } finally {
+            waitingThreads.decrementAndGet();
+            long wait = System.nanoTime() - start;
+            borrowCount.incrementAndGet();
+            totalWaitNanos.addAndGet(wait);
+            maxWaitNanos.accumulateAndGet(wait, Math::max);
+        }
+    }
+
+    /**
+     * Method that creates connection, if pool is not full.
+     *
+     * @return {@link Connection} new connection or null, if pool is full
+     */
+    private Connection tryGrow() {
+        int total = totalConnections.get();
+        while (total < maxSize) {
+            if (totalConnections.compareAndSet(total, total + 1)) {
+                return createConnection();
+            }
+            total = totalConnections.get();
+        }
+        return null;
+    }
+
+    /**
+     * Method that validates connection before borrow.
+     *
+     * @param connection {@link Connection}
+     * @return {@link Boolean} true, if connection is alive
+     */
+    private boolean isAlive(Connection connection) {
+        Long lastReturn = returnedAt.get(connection);
+        if (lastReturn != null && System.nanoTime() - lastReturn < VALIDATION_BYPASS_NANOS) {
+            return true;
+        }
+        try {
+            return connection.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            log.warn("Can't validate connection " + e);
+            return false;
+        }
+    }
+
+    /**
+     * Method that closes broken connection and frees its place in pool.
+     *
+     * @param connection {@link Connection}
+     */
+    private void discard(Connection connection) {
+        returnedAt.remove(connection);
+        totalConnections.decrementAndGet();
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("Can't close broken connection " + e);
+        }
+        log.warn("Broken connection are removed from pool");
     }
 
     /**
@@ -103,7 +295,30 @@ public final class ConnectionPool {
      * @param connection connection, which finished sql execute
      */
     public void releaseConnection(final Connection connection) {
-        connectionQueue.add(connection);
+        if (connection == null) {
+            return;
+        }
+        if (borrowedConnections.remove(connection) == null) {
+            log.warn("Released connection doesn't belong to pool or already released");
+            return;
+        }
+        returnedAt.put(connection, System.nanoTime());
+        idleConnections.offerFirst(connection);
+    }
+
+    /**
+     * Method that logs stack of borrowers, who hold connection longer than threshold.
+     */
+    void detectLeaks() {
+        long now = System.nanoTime();
+        for (Borrow borrow : borrowedConnections.values()) {
+            if (!borrow.reported && now - borrow.borrowedAt > leakDetectionThresholdNanos) {
+                borrow.reported = true;
+                leakCount.incrementAndGet();
+                log.warn("Connection leak detection triggered, connection held for "
+                        + TimeUnit.NANOSECONDS.toMillis(now - borrow.borrowedAt) + " ms", borrow.stackTrace);
+            }
+        }
     }
 
     /**
@@ -112,9 +327,90 @@ public final class ConnectionPool {
      * @return {@link Integer} size of available connection in pool
      */
     public int getAvailableConnections() {
-        return connectionQueue.size();
+        return idleConnections.size();
+    }
+
+    /**
+     * Method that returns count of borrowed connections.
+     *
+     * @return {@link Integer} count of borrowed connections
+     */
+    public int getActiveConnections() {
+        return borrowedConnections.size();
+    }
+
+    /**
+     * Method that returns count of opened connections.
+     *
+     * @return {@link Integer} count of idle and borrowed connections
+     */
+    public int getTotalConnections() {
+        return totalConnections.get();
+    }
+
+    /**
+     * Method that returns count of threads, which are waiting for connection.
+     *
+     * @return {@link Integer} count of waiting threads
+     */
+    public int getWaitingThreads() {
+        return waitingThreads.get();
+    }
+
+    /**
+     * Method that returns average time of getting connection.
+     *
+     * @return {@link Double} time in milliseconds
+     */
+    public double getAverageWaitTime() {
+        long count = borrowCount.get();
+        return count == 0 ? 0 : totalWaitNanos.get() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Method that returns max time of getting connection.
+     *
+     * @return {@link Long} time in milliseconds
+     */
+    public long getMaxWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+    }
+
+    /**
+     * Method that returns count of requests, which didn't get connection in time.
+     *
+     * @return {@link Long} count of timeouts
+     */
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    /**
+     * Method that returns count of detected connection leaks.
+     *
+     * @return {@link Long} count of leaks
+     */
+    public long getLeakCount() {
+        return leakCount.get();
     }
 
+    /**
+     * Method that returns count of prepared statements taken from cache.
+     *
+     * @return {@link Long} count of hits
+     */
+    public long getStatementCacheHits() {
+        return statementCacheHits.get();
+    }
+
+    /**
+     * Method that returns count of prepared statements, which were prepared on server.
+     *
+     * @return {@link Long} count of misses
+     */
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.get();
+    }
 
     /**
      * Method that register db Driver.
@@ -128,6 +424,33 @@ public final class ConnectionPool {
         }
     }
 
+    /**
+     * Method that closes all connections of pool.
+     */
+    void close() {
+        if (leakDetector != null) {
+            leakDetector.shutdownNow();
+        }
+        for (Connection connection : idleConnections) {
+            closeQuietly(connection);
+        }
+        for (Connection connection : borrowedConnections.keySet()) {
+            closeQuietly(connection);
+        }
+        idleConnections.clear();
+        borrowedConnections.clear();
+        returnedAt.clear();
+        totalConnections.set(0);
+    }
+
+    private void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.error("Can't close connection ", e);
+        }
+    }
+
     /**
      * Method that destroy connection pool.
      */
@@ -135,13 +458,9 @@ public final class ConnectionPool {
         if (instanceCreated.get()) {
             lock.lock();
             try {
-                for (Connection connection : connectionQueue) {
-                    connection.close();
-                }
+                close();
                 instance = null;
                 instanceCreated.set(false);
-            } catch (SQLException e) {
-                log.error("Can't destroy connection pool ", e);
             } finally {
                 lock.unlock();
             }
@@ -0,0 +1,207 @@
+package com.epam.jwd.pool;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wrapper of pooled {@link Connection} that keeps LRU cache of
+ * {@link PreparedStatement} keyed by SQL text. Statement returned by
+ * {@link Connection#prepareStatement(String)} is reused across borrows,
+ * its close() only clears parameters. Statements are really closed when
+ * they are evicted from cache or when connection is closed.
+ * Connection is used by one thread at a time, so cache is not synchronized.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+@Log4j2
+final class PooledConnection implements InvocationHandler {
+
+    private final Connection connection;
+    private final Connection proxy;
+    private final Map<String, CachedStatement> statementCache;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+
+    /**
+     * Cached statement and its proxy, which is given to DAO.
+     */
+    private final class CachedStatement implements InvocationHandler {
+        private final PreparedStatement statement;
+        private final PreparedStatement proxy;
+        private boolean inUse;
+        private boolean evicted;
+
+        private CachedStatement(PreparedStatement statement) {
+            this.statement = statement;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    release();
+                    return null;
+                case "isClosed":
+                    return !inUse || statement.isClosed();
+                case "getConnection":
+                    return PooledConnection.this.proxy;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Cached" + statement;
+                default:
+                    return invokeTarget(statement, method, args);
+            }
+        }
+
+        /**
+         * Method that returns statement to cache or closes it, if it was evicted while in use.
+         */
+        private void release() throws SQLException {
+            if (!inUse) {
+                return;
+            }
+            inUse = false;
+            if (evicted) {
+                statement.close();
+                return;
+            }
+            ResultSet resultSet = statement.getResultSet();
+            if (resultSet != null) {
+                resultSet.close();
+            }
+            statement.clearParameters();
+            statement.clearBatch();
+        }
+
+        private void evict() {
+            evicted = true;
+            if (!inUse) {
+                closeQuietly(statement);
+            }
+        }
+    }
+
+    PooledConnection(Connection connection, int statementCacheSize, AtomicLong hits, AtomicLong misses) {
+        this.connection = connection;
+        this.hits = hits;
+        this.misses = misses;
+        this.statementCache = new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() > statementCacheSize) {
+                    eldest.getValue().evict();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.proxy = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, this);
+    }
+
+    /**
+     * Method that returns wrapped {@link Connection}, which is given to DAO.
+     *
+     * @return {@link Connection} proxy
+     */
+    Connection getProxy() {
+        return proxy;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "prepareStatement":
+                if (args.length == 1) {
+                    return prepareStatement((String) args[0]);
+                }
+                return invokeTarget(connection, method, args);
+            case "close":
+                close();
+                return null;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "Pooled" + connection;
+            default:
+                return invokeTarget(connection, method, args);
+        }
+    }
+
+    /**
+     * Method that returns cached {@link PreparedStatement} or prepares a new one.
+     * If cached statement is already in use, not cached statement is returned.
+     *
+     * @param sql {@link String} SQL text
+     * @return {@link PreparedStatement}
+     * @throws SQLException exception
+     */
+    private PreparedStatement prepareStatement(String sql) throws SQLException {
+        CachedStatement cached = statementCache.get(sql);
+        if (cached != null && !cached.inUse && !cached.statement.isClosed()) {
+            hits.incrementAndGet();
+            cached.inUse = true;
+            return cached.proxy;
+        }
+        misses.incrementAndGet();
+        if (cached != null && cached.inUse) {
+            return connection.prepareStatement(sql);
+        }
+        cached = new CachedStatement(connection.prepareStatement(sql));
+        cached.inUse = true;
+        statementCache.put(sql, cached);
+        return cached.proxy;
+    }
+
+    /**
+     * Method that closes cached statements and physical connection.
+     *
+     * @throws SQLException exception
+     */
+    private void close() throws SQLException {
+        List<CachedStatement> statements = new ArrayList<>(statementCache.values());
+        statementCache.clear();
+        for (CachedStatement cached : statements) {
+            closeQuietly(cached.statement);
+        }
+        connection.close();
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            log.warn("Can't close cached statement " + e);
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.epam.jwd.service;
+
+import org.mindrot.jbcrypt.BCrypt;
+
+/**
+ * {@link PasswordHasher} that uses bcrypt, hash begins with "$2a$"
+ * and contains log2 of rounds and salt.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+public class BCryptPasswordHasher implements PasswordHasher {
+
+    private static final String PREFIX = "$2a$";
+
+    private final int logRounds;
+
+    public BCryptPasswordHasher(int logRounds) {
+        this.logRounds = logRounds;
+    }
+
+    @Override
+    public String hash(String password) {
+        return BCrypt.hashpw(password, BCrypt.gensalt(logRounds));
+    }
+
+    @Override
+    public boolean matches(String password, String stored) {
+        try {
+            return BCrypt.checkpw(password, stored);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean supports(String stored) {
+        return stored.startsWith(PREFIX);
+    }
+
+    /**
+     * Method that compares rounds of hash "$2a$NN$..." with current rounds.
+     *
+     * @param stored {@link String} stored hash of this algorithm
+     * @return {@link Boolean} true, if rounds are different
+     */
+    @Override
+    public boolean needsRehash(String stored) {
+        int start = PREFIX.length();
+        return stored.length() < start + 2
+                || Integer.parseInt(stored.substring(start, start + 2)) != logRounds;
+    }
+}
@@ -4,6 +4,6 @@ import javax.mail.MessagingException;
 
 public interface EmailService {
 
-    void sendMessage(String address) throws MessagingException;
+    void sendMessage(String address, int code) throws MessagingException;
 
 }
@@ -0,0 +1,116 @@
+package com.epam.jwd.service;
+
+import com.epam.jwd.entity.EnrolledListSnapshot;
+import com.epam.jwd.entity.User;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Class that keeps {@link EnrolledListSnapshot} in memory. Readers get
+ * current snapshot without locks, snapshot is rebuilt from database
+ * and replaced when enrolled list is generated or removed.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+@Log4j2
+public class EnrolledListCache {
+
+    private static EnrolledListCache instance;
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final AtomicBoolean INSTANCE_CREATED = new AtomicBoolean(false);
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicLong version = new AtomicLong();
+    private final String eTagPrefix = Long.toHexString(System.currentTimeMillis());
+    private final Supplier<List<User>> loader;
+    private volatile EnrolledListSnapshot snapshot;
+
+    EnrolledListCache(Supplier<List<User>> loader) {
+        this.loader = loader;
+    }
+
+    public static EnrolledListCache getInstance() {
+        if (!INSTANCE_CREATED.get()) {
+            LOCK.lock();
+            try {
+                if (instance == null) {
+                    instance = new EnrolledListCache(() -> UserService.getInstance().getEnrolledList());
+                    INSTANCE_CREATED.set(true);
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Method that returns current enrolled list, it is loaded
+     * from database on first call or after invalidation.
+     *
+     * @return {@link EnrolledListSnapshot} snapshot
+     */
+    public EnrolledListSnapshot get() {
+        EnrolledListSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        refreshLock.lock();
+        try {
+            if (snapshot == null) {
+                snapshot = load();
+            }
+            return snapshot;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Method that rebuilds snapshot from database and replaces current one.
+     * Readers get old snapshot until new one is ready.
+     *
+     * @return {@link EnrolledListSnapshot} new snapshot
+     */
+    public EnrolledListSnapshot refresh() {
+        refreshLock.lock();
+        try {
+            snapshot = load();
+            return snapshot;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Method that drops snapshot, it will be loaded on next read.
+     */
+    public void invalidate() {
+        refreshLock.lock();
+        try {
+            snapshot = null;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Method that loads enrolled list and builds new snapshot.
+     *
+     * @return {@link EnrolledListSnapshot} snapshot
+     */
+    private EnrolledListSnapshot load() {
+        long nextVersion = version.incrementAndGet();
+        EnrolledListSnapshot loaded = new EnrolledListSnapshot(nextVersion,
+                eTagPrefix + "-" + nextVersion, loader.get());
+        log.info("Enrolled list snapshot loaded " + loaded);
+        return loaded;
+    }
+}
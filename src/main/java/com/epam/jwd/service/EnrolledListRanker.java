@@ -0,0 +1,131 @@
+package com.epam.jwd.service;
+
+import com.epam.jwd.entity.Faculty;
+import com.epam.jwd.entity.User;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Class that chooses enrolled {@link User} of each {@link Faculty}
+ * in memory. Users are partitioned by faculty in one pass and
+ * best users of each faculty are kept in bounded min-heap,
+ * so ranking takes O(n log k) instead of sorting all users.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+public class EnrolledListRanker {
+
+    private static EnrolledListRanker instance;
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final AtomicBoolean INSTANCE_CREATED = new AtomicBoolean(false);
+
+    /**
+     * Count of users from which faculties are ranked in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 10000;
+
+    /**
+     * Order of users in enrolled list of faculty: by sum of exams, ties are
+     * broken by math, physics, russian and average scores, then by id.
+     */
+    public static final Comparator<User> RANK_ORDER = Comparator
+            .comparingInt(User::getSumExams)
+            .thenComparingInt(User::getMathExamScore)
+            .thenComparingInt(User::getPhysicsExamScore)
+            .thenComparingInt(User::getRussianExamScore)
+            .thenComparingInt(User::getAverageScore)
+            .reversed()
+            .thenComparingInt(User::getId);
+
+    public static EnrolledListRanker getInstance() {
+        if (!INSTANCE_CREATED.get()) {
+            LOCK.lock();
+            try {
+                if (instance == null) {
+                    instance = new EnrolledListRanker();
+                    INSTANCE_CREATED.set(true);
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Method that returns enrolled users of all faculties. Sum of exams
+     * of users must be already calculated. Faculties are ranked in parallel
+     * for big count of users.
+     *
+     * @param userList    {@link List<User>} all users
+     * @param facultyList {@link Collection<Faculty>} faculties with count of places
+     * @return {@link List<User>} enrolled users grouped by faculty in order of faculties
+     */
+    public List<User> rank(List<User> userList, Collection<Faculty> facultyList) {
+        return rank(userList, facultyList, userList.size() >= PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Method that returns enrolled users of all faculties.
+     *
+     * @param userList    {@link List<User>} all users
+     * @param facultyList {@link Collection<Faculty>} faculties with count of places
+     * @param parallel    {@link Boolean} rank faculties in parallel
+     * @return {@link List<User>} enrolled users grouped by faculty in order of faculties
+     */
+    public List<User> rank(List<User> userList, Collection<Faculty> facultyList, boolean parallel) {
+        Map<Integer, List<User>> partitions = new HashMap<>();
+        for (Faculty faculty : facultyList) {
+            partitions.put(faculty.getType().getId(), new ArrayList<>());
+        }
+        for (User user : userList) {
+            List<User> partition = partitions.get(user.getFacultyId());
+            if (partition != null) {
+                partition.add(user);
+            }
+        }
+        Stream<Faculty> stream = parallel ? facultyList.parallelStream() : facultyList.stream();
+        return stream
+                .map(faculty -> topK(partitions.get(faculty.getType().getId()), faculty.getCountPlaces()))
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Method that chooses best users of one faculty.
+     *
+     * @param userList {@link List<User>} users of faculty
+     * @param places   {@link Integer} count of places
+     * @return {@link List<User>} best users in {@link #RANK_ORDER}
+     */
+    private List<User> topK(List<User> userList, int places) {
+        if (places <= 0 || userList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        PriorityQueue<User> heap = new PriorityQueue<>(Math.min(places, userList.size()), RANK_ORDER.reversed());
+        for (User user : userList) {
+            if (heap.size() < places) {
+                heap.offer(user);
+            } else if (RANK_ORDER.compare(user, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(user);
+            }
+        }
+        List<User> result = new ArrayList<>(heap);
+        result.sort(RANK_ORDER);
+        return result;
+    }
+}
@@ -0,0 +1,156 @@
+package com.epam.jwd.service;
+
+import com.epam.jwd.dao.impl.FacultyDao;
+import com.epam.jwd.entity.EnumFaculty;
+import com.epam.jwd.entity.Faculty;
+import com.epam.jwd.exception.UnknownEnumFacultyException;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Class that keeps all {@link Faculty} in memory. Faculties are loaded
+ * once on start of application into {@link EnumMap}, readers get copies
+ * from current snapshot without locks and database. Change of faculty
+ * builds new snapshot and replaces current one.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+@Log4j2
+public class FacultyCatalog {
+
+    private static FacultyCatalog instance;
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final AtomicBoolean INSTANCE_CREATED = new AtomicBoolean(false);
+
+    private final ReentrantLock changeLock = new ReentrantLock();
+    private final Supplier<List<Faculty>> loader;
+    private volatile Map<EnumFaculty, Faculty> snapshot;
+
+    FacultyCatalog(Supplier<List<Faculty>> loader) {
+        this.loader = loader;
+    }
+
+    public static FacultyCatalog getInstance() {
+        if (!INSTANCE_CREATED.get()) {
+            LOCK.lock();
+            try {
+                if (instance == null) {
+                    instance = new FacultyCatalog(() -> FacultyDao.getInstance().selectAll());
+                    INSTANCE_CREATED.set(true);
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Method that returns faculty by type.
+     *
+     * @param type {@link EnumFaculty} type of faculty
+     * @return {@link Faculty} copy of faculty, null if it isn't in database
+     */
+    public Faculty get(EnumFaculty type) {
+        Faculty faculty = getSnapshot().get(type);
+        return faculty == null ? null : faculty.copy();
+    }
+
+    /**
+     * Method that returns faculty by id.
+     *
+     * @param id {@link Integer} id of faculty
+     * @return {@link Faculty} copy of faculty, null if id is unknown
+     */
+    public Faculty get(int id) {
+        try {
+            return get(EnumFaculty.resolveById(id));
+        } catch (UnknownEnumFacultyException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method that returns all faculties in order of {@link EnumFaculty}.
+     *
+     * @return {@link List<Faculty>} copies of faculties
+     */
+    public List<Faculty> getAll() {
+        Map<EnumFaculty, Faculty> current = getSnapshot();
+        List<Faculty> faculties = new ArrayList<>(current.size());
+        for (Faculty faculty : current.values()) {
+            faculties.add(faculty.copy());
+        }
+        return faculties;
+    }
+
+    /**
+     * Method that reads all faculties from database and replaces snapshot.
+     */
+    public void refresh() {
+        changeLock.lock();
+        try {
+            Map<EnumFaculty, Faculty> faculties = new EnumMap<>(EnumFaculty.class);
+            for (Faculty faculty : loader.get()) {
+                faculties.put(faculty.getType(), faculty.copy());
+            }
+            swap(faculties);
+            log.info("Faculty catalog loaded " + snapshot.values());
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    /**
+     * Method that puts changed faculty to new snapshot, it must be
+     * called after faculty is saved in database.
+     *
+     * @param faculty {@link Faculty} saved faculty
+     */
+    public void replace(Faculty faculty) {
+        changeLock.lock();
+        try {
+            Map<EnumFaculty, Faculty> faculties = new EnumMap<>(EnumFaculty.class);
+            faculties.putAll(getSnapshot());
+            faculties.put(faculty.getType(), faculty.copy());
+            swap(faculties);
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    private Map<EnumFaculty, Faculty> getSnapshot() {
+        Map<EnumFaculty, Faculty> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        changeLock.lock();
+        try {
+            if (snapshot == null) {
+                refresh();
+            }
+            return snapshot;
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    /**
+     * Method that publishes new snapshot, must be called under change lock.
+     *
+     * @param faculties {@link EnumMap} new faculties
+     */
+    private void swap(Map<EnumFaculty, Faculty> faculties) {
+        snapshot = Collections.unmodifiableMap(faculties);
+    }
+}
@@ -12,7 +12,7 @@ import java.util.concurrent.locks.ReentrantLock;
 /**
  * {@link FacultyService} FacultyService, which is intended for business logic
  * of working with {@link Faculty} faculty data.
- * It accesses to {@link FacultyDao} FacultyDao.
+ * It reads faculties from {@link FacultyCatalog} and writes them by {@link FacultyDao} FacultyDao.
  *
  * @version 0.0.1
  */
@@ -40,22 +40,22 @@ public class FacultyService {
     }
 
     /**
-     * Method select faculty by id.
+     * Method select faculty by id from {@link FacultyCatalog}.
      *
      * @param id value for select {@link Faculty}
      * @return {@link Faculty} faculty
      */
     public Faculty selectById(Integer id) {
-        return facultyDao.selectById(id);
+        return FacultyCatalog.getInstance().get(id);
     }
 
     /**
-     * Method select all faculties from table.
+     * Method select all faculties from {@link FacultyCatalog}.
      *
      * @return {@link List<Faculty>} faculty list
      */
     public List<Faculty> selectAll() {
-        return facultyDao.selectAll();
+        return FacultyCatalog.getInstance().getAll();
     }
 
     /**
@@ -67,20 +67,28 @@ public class FacultyService {
     public void insert(Faculty faculty) throws ValidatorException {
         if (FacultyValidator.getInstance().validate(faculty)) {
             facultyDao.insert(faculty);
+            FacultyCatalog.getInstance().refresh();
         } else {
             throw new ValidatorException("Faculty validator exception");
         }
     }
 
     /**
-     * Method that updates {@link Faculty}.
+     * Method that updates {@link Faculty}. Saved faculty is put to
+     * {@link FacultyCatalog}, otherwise catalog is read from database again.
      *
      * @param faculty {@link Faculty} need to update
+     * @return {@link Boolean} true, if faculty is saved
      * @throws ValidatorException if data is not valid
      */
-    public void update(Faculty faculty) throws ValidatorException {
+    public boolean update(Faculty faculty) throws ValidatorException {
         if (FacultyValidator.getInstance().validate(faculty)) {
-            facultyDao.update(faculty);
+            if (facultyDao.update(faculty)) {
+                FacultyCatalog.getInstance().replace(faculty);
+                return true;
+            }
+            FacultyCatalog.getInstance().refresh();
+            return false;
         } else {
             throw new ValidatorException("Faculty validator exception");
         }
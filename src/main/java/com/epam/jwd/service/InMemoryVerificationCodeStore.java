@@ -0,0 +1,151 @@
+package com.epam.jwd.service;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link VerificationCodeStore} in memory of one node. Codes are kept
+ * in concurrent map, expired codes are removed by scheduled sweeper.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+@Log4j2
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private static InMemoryVerificationCodeStore instance;
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final AtomicBoolean INSTANCE_CREATED = new AtomicBoolean(false);
+
+    private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(15);
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long SWEEP_PERIOD_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final Map<String, Entry> codes = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxAttempts;
+    private final LongSupplier clock;
+    private ScheduledExecutorService sweeper;
+
+    /**
+     * Saved code with expiry time and count of wrong attempts.
+     */
+    private static final class Entry {
+        private final int code;
+        private final long expiresAt;
+        private int attempts;
+
+        private Entry(int code, long expiresAt) {
+            this.code = code;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    InMemoryVerificationCodeStore(long ttlMillis, int maxAttempts, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxAttempts = maxAttempts;
+        this.clock = clock;
+    }
+
+    public static InMemoryVerificationCodeStore getInstance() {
+        if (!INSTANCE_CREATED.get()) {
+            LOCK.lock();
+            try {
+                if (instance == null) {
+                    instance = new InMemoryVerificationCodeStore(TTL_MILLIS, MAX_ATTEMPTS, System::currentTimeMillis);
+                    instance.startSweeper(SWEEP_PERIOD_MILLIS);
+                    INSTANCE_CREATED.set(true);
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return instance;
+    }
+
+    @Override
+    public void put(String key, int code) {
+        codes.put(key, new Entry(code, clock.getAsLong() + ttlMillis));
+    }
+
+    @Override
+    public boolean verify(String key, int code) {
+        boolean[] verified = new boolean[1];
+        codes.computeIfPresent(key, (login, entry) -> {
+            if (entry.expiresAt <= clock.getAsLong()) {
+                return null;
+            }
+            if (entry.code == code) {
+                verified[0] = true;
+                return null;
+            }
+            entry.attempts++;
+            if (entry.attempts >= maxAttempts) {
+                log.warn("Verification code of " + login + " is removed after " + entry.attempts + " wrong attempts");
+                return null;
+            }
+            return entry;
+        });
+        return verified[0];
+    }
+
+    @Override
+    public void remove(String key) {
+        codes.remove(key);
+    }
+
+    /**
+     * Method that removes expired codes.
+     *
+     * @return {@link Integer} count of removed codes
+     */
+    int sweep() {
+        long now = clock.getAsLong();
+        int removed = 0;
+        for (Iterator<Entry> iterator = codes.values().iterator(); iterator.hasNext(); ) {
+            if (iterator.next().expiresAt <= now) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    int size() {
+        return codes.size();
+    }
+
+    /**
+     * Method that starts daemon thread, which removes expired codes.
+     *
+     * @param periodMillis {@link Long} period of sweeping
+     */
+    private void startSweeper(long periodMillis) {
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "verification-code-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleAtFixedRate(this::sweep, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Method that stops sweeper.
+     */
+    @Override
+    public void shutdown() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+}
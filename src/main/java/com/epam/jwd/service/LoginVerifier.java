@@ -0,0 +1,191 @@
+package com.epam.jwd.service;
+
+import com.epam.jwd.entity.User;
+import com.epam.jwd.exception.ServiceUnavailableException;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * Class that checks login and password of {@link User} on own bounded
+ * pool of threads. Password hashing is slow, so during many sign ins
+ * only this pool is busy and container threads serve other pages.
+ * When pool and queue are full, sign in fails at once.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+@Log4j2
+public class LoginVerifier {
+
+    private static LoginVerifier instance;
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final AtomicBoolean INSTANCE_CREATED = new AtomicBoolean(false);
+
+    private static final int QUEUE_CAPACITY_PER_THREAD = 4;
+    private static final long TIMEOUT_MILLIS = 10000;
+
+    private final BiFunction<String, String, Optional<User>> verification;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final AtomicLong verifiedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong verifyNanos = new AtomicLong();
+    private final AtomicLong maxVerifyNanos = new AtomicLong();
+
+    LoginVerifier(BiFunction<String, String, Optional<User>> verification, int threads,
+                  int queueCapacity, long timeoutMillis) {
+        this.verification = verification;
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "login-verifier-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public static LoginVerifier getInstance() {
+        if (!INSTANCE_CREATED.get()) {
+            LOCK.lock();
+            try {
+                if (instance == null) {
+                    int threads = Runtime.getRuntime().availableProcessors();
+                    instance = new LoginVerifier(UserService.getInstance()::getByLoginAndPassword,
+                            threads, threads * QUEUE_CAPACITY_PER_THREAD, TIMEOUT_MILLIS);
+                    INSTANCE_CREATED.set(true);
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Method that finds {@link User} by login and checks password on pool
+     * of verifier, caller waits for result.
+     *
+     * @param login    {@link String} login
+     * @param password {@link String} password in text format
+     * @return {@link Optional<User>} optional of user
+     * @throws ServiceUnavailableException if pool is saturated or check takes too long
+     */
+    public Optional<User> verify(String login, String password) throws ServiceUnavailableException {
+        Future<Optional<User>> future;
+        try {
+            future = executor.submit(timed(() -> verification.apply(login, password)));
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            log.warn("Sign in rejected, queue depth " + getQueueDepth());
+            throw new ServiceUnavailableException("Login verification is saturated");
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCount.incrementAndGet();
+            throw new ServiceUnavailableException("Login verification timed out");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Login verification interrupted");
+        } catch (ExecutionException e) {
+            log.error("Can't verify login " + e.getCause());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Method that wraps verification and measures its time.
+     *
+     * @param task {@link Callable} verification
+     * @return {@link Callable} measured verification
+     */
+    private Callable<Optional<User>> timed(Callable<Optional<User>> task) {
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                return task.call();
+            } finally {
+                long nanos = System.nanoTime() - start;
+                verifiedCount.incrementAndGet();
+                verifyNanos.addAndGet(nanos);
+                maxVerifyNanos.accumulateAndGet(nanos, Math::max);
+            }
+        };
+    }
+
+    /**
+     * Method that stops pool.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Method that logs metrics and stops pool, if it was created.
+     */
+    public static void shutdownIfCreated() {
+        if (INSTANCE_CREATED.get()) {
+            log.info("Login verifier stopped " + instance);
+            instance.shutdown();
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getVerifiedCount() {
+        return verifiedCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * Method that returns average time of verification.
+     *
+     * @return {@link Long} average time in microseconds
+     */
+    public long getAverageVerifyMicros() {
+        long count = verifiedCount.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(verifyNanos.get() / count);
+    }
+
+    public long getMaxVerifyMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxVerifyNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return "LoginVerifier{queueDepth=" + getQueueDepth()
+                + ", active=" + getActiveCount()
+                + ", verified=" + getVerifiedCount()
+                + ", rejected=" + getRejectedCount()
+                + ", averageMicros=" + getAverageVerifyMicros()
+                + ", maxMicros=" + getMaxVerifyMicros() + "}";
+    }
+}
@@ -0,0 +1,271 @@
+package com.epam.jwd.service;
+
+import com.epam.jwd.context.config.EmailConfiguration;
+import lombok.extern.log4j.Log4j2;
+
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Class that sends email messages in background. Messages wait in bounded
+ * queue, every worker keeps its own connected {@link Transport} and reuses
+ * it for next messages. Failed message is sent again after growing delay,
+ * message that failed all attempts is written to dead letter log.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+@Log4j2
+public class MailDispatcher {
+
+    private static MailDispatcher instance;
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final AtomicBoolean INSTANCE_CREATED = new AtomicBoolean(false);
+
+    private final Session session;
+    private final String username;
+    private final String password;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final BlockingQueue<MailTask> queue;
+    private final Thread[] workers;
+    private final ScheduledExecutorService retryScheduler;
+    private volatile boolean running = true;
+
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong deadLetterCount = new AtomicLong();
+
+    /**
+     * Message with count of done attempts.
+     */
+    private static final class MailTask {
+        private final Message message;
+        private int attempts;
+
+        private MailTask(Message message) {
+            this.message = message;
+        }
+    }
+
+    MailDispatcher(Session session, String username, String password, int queueCapacity,
+                   int workerCount, int maxAttempts, long backoffMillis) {
+        this.session = session;
+        this.username = username;
+        this.password = password;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mail-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.workers = new Thread[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Thread(this::work, "mail-worker-" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+    }
+
+    public static MailDispatcher getInstance() {
+        if (!INSTANCE_CREATED.get()) {
+            LOCK.lock();
+            try {
+                if (instance == null) {
+                    EmailConfiguration emailConfiguration = EmailConfiguration.getInstance();
+                    instance = new MailDispatcher(
+                            Session.getInstance(emailConfiguration.getPropertiesSessionDefaultInstance()),
+                            emailConfiguration.getUsername(),
+                            emailConfiguration.getPassword(),
+                            emailConfiguration.getQueueCapacity(),
+                            emailConfiguration.getWorkers(),
+                            emailConfiguration.getRetryAttempts(),
+                            emailConfiguration.getRetryBackoff());
+                    INSTANCE_CREATED.set(true);
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Method that stops dispatcher, if it was created. It isn't created
+     * for shutdown only, because it needs complete mail configuration.
+     *
+     * @param timeoutMillis {@link Long} max time to wait for sending
+     */
+    public static void shutdownIfCreated(long timeoutMillis) {
+        if (INSTANCE_CREATED.get()) {
+            instance.shutdown(timeoutMillis);
+        }
+    }
+
+    /**
+     * Method that returns {@link Session} for building messages.
+     *
+     * @return {@link Session} mail session
+     */
+    public Session getSession() {
+        return session;
+    }
+
+    /**
+     * Method that puts message to queue and returns immediately.
+     *
+     * @param message {@link Message} message with recipients
+     * @return {@link Boolean} false, if queue is full or dispatcher is stopped
+     */
+    public boolean enqueue(Message message) {
+        return running && queue.offer(new MailTask(message));
+    }
+
+    /**
+     * Loop of worker thread.
+     */
+    private void work() {
+        Transport transport = null;
+        try {
+            while (running) {
+                MailTask task = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (task != null) {
+                    transport = send(transport, task);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            close(transport);
+        }
+    }
+
+    /**
+     * Method that sends message by connected transport, transport is
+     * opened again if it is closed or broken.
+     *
+     * @param transport {@link Transport} transport of worker, may be null
+     * @param task      {@link MailTask} message
+     * @return {@link Transport} transport for next message, null if it is broken
+     */
+    private Transport send(Transport transport, MailTask task) {
+        task.attempts++;
+        try {
+            if (transport == null || !transport.isConnected()) {
+                close(transport);
+                transport = session.getTransport();
+                transport.connect(username, password);
+                log.info("Mail transport connected");
+            }
+            transport.sendMessage(task.message, task.message.getAllRecipients());
+            sentCount.incrementAndGet();
+            return transport;
+        } catch (MessagingException e) {
+            log.warn("Can't send message, attempt " + task.attempts + " " + e);
+            close(transport);
+            retry(task);
+            return null;
+        }
+    }
+
+    /**
+     * Method that schedules message again or writes it to dead letter log.
+     *
+     * @param task {@link MailTask} failed message
+     */
+    private void retry(MailTask task) {
+        if (task.attempts >= maxAttempts || !running) {
+            deadLetter(task);
+            return;
+        }
+        retryCount.incrementAndGet();
+        long delay = backoffMillis << (task.attempts - 1);
+        retryScheduler.schedule(() -> {
+            if (!queue.offer(task)) {
+                deadLetter(task);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Method that logs message, which can't be sent.
+     *
+     * @param task {@link MailTask} failed message
+     */
+    private void deadLetter(MailTask task) {
+        deadLetterCount.incrementAndGet();
+        try {
+            log.error("Dead letter after " + task.attempts + " attempts: to "
+                    + Arrays.toString(task.message.getAllRecipients()) + ", subject " + task.message.getSubject());
+        } catch (MessagingException e) {
+            log.error("Dead letter after " + task.attempts + " attempts " + e);
+        }
+    }
+
+    private void close(Transport transport) {
+        if (transport != null) {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.warn("Can't close mail transport " + e);
+            }
+        }
+    }
+
+    /**
+     * Method that stops workers, messages from queue are sent before.
+     *
+     * @param timeoutMillis {@link Long} max time to wait for sending
+     */
+    public void shutdown(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!queue.isEmpty() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        running = false;
+        retryScheduler.shutdownNow();
+        for (Thread worker : workers) {
+            try {
+                worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("Mail dispatcher stopped, not sent messages: " + queue.size());
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    public long getDeadLetterCount() {
+        return deadLetterCount.get();
+    }
+}
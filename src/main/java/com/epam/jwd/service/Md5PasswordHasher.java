@@ -0,0 +1,91 @@
+package com.epam.jwd.service;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * {@link PasswordHasher} of hashes made before salted algorithms:
+ * MD5 in upper case hex without prefix. It is used only to check
+ * old hashes, they are replaced on next sign in. Old hashes were made
+ * from bytes of password in platform charset, so it is used here too,
+ * and UTF-8 is tried after it, if platform charset is another one.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+public class Md5PasswordHasher implements PasswordHasher {
+
+    private static final int HASH_LENGTH = 32;
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not supported", e);
+        }
+    });
+
+    private final Charset charset;
+
+    public Md5PasswordHasher() {
+        this(Charset.defaultCharset());
+    }
+
+    Md5PasswordHasher(Charset charset) {
+        this.charset = charset;
+    }
+
+    /**
+     * Method that makes MD5 hash, new hashes are not stored in this format.
+     *
+     * @param password {@link String} in text format
+     * @return {@link String} MD5 in upper case hex
+     */
+    @Override
+    public String hash(String password) {
+        return hash(password, charset);
+    }
+
+    /**
+     * Method that makes MD5 hash of password bytes in given charset.
+     *
+     * @param password {@link String} in text format
+     * @param charset  {@link Charset} charset of password bytes
+     * @return {@link String} MD5 in upper case hex
+     */
+    private String hash(String password, Charset charset) {
+        MessageDigest messageDigest = DIGEST.get();
+        byte[] digest = messageDigest.digest(password.getBytes(charset));
+        char[] chars = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            chars[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[digest[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public boolean matches(String password, String stored) {
+        byte[] storedBytes = stored.getBytes(StandardCharsets.US_ASCII);
+        if (MessageDigest.isEqual(hash(password, charset).getBytes(StandardCharsets.US_ASCII), storedBytes)) {
+            return true;
+        }
+        return !StandardCharsets.UTF_8.equals(charset)
+                && MessageDigest.isEqual(hash(password, StandardCharsets.UTF_8).getBytes(StandardCharsets.US_ASCII),
+                storedBytes);
+    }
+
+    @Override
+    public boolean supports(String stored) {
+        return stored.length() == HASH_LENGTH && stored.charAt(0) != '$';
+    }
+
+    @Override
+    public boolean needsRehash(String stored) {
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+package com.epam.jwd.service;
+
+/**
+ * Algorithm of password hashing. Every stored hash begins with
+ * prefix of its algorithm, so hashes of different algorithms
+ * can be kept in one column.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+public interface PasswordHasher {
+
+    /**
+     * Method that hashes password with new salt.
+     *
+     * @param password {@link String} in text format
+     * @return {@link String} hash with prefix of algorithm
+     */
+    String hash(String password);
+
+    /**
+     * Method that checks password against stored hash.
+     *
+     * @param password {@link String} in text format
+     * @param stored   {@link String} stored hash
+     * @return {@link Boolean} true, if password is right
+     */
+    boolean matches(String password, String stored);
+
+    /**
+     * Method that checks if stored hash is made by this algorithm.
+     *
+     * @param stored {@link String} stored hash
+     * @return {@link Boolean} true, if hash can be checked by this hasher
+     */
+    boolean supports(String stored);
+
+    /**
+     * Method that checks if stored hash is made with other work factor.
+     *
+     * @param stored {@link String} stored hash of this algorithm
+     * @return {@link Boolean} true, if hash should be made again
+     */
+    boolean needsRehash(String stored);
+}
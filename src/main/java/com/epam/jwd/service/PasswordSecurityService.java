@@ -1,14 +1,17 @@
 package com.epam.jwd.service;
 
+import com.epam.jwd.util.AppPropertiesReaderUtil;
 import lombok.extern.log4j.Log4j2;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Class that performs the function of hashing passwords.
+ * Class that performs the function of hashing passwords. New passwords
+ * are hashed by algorithm from app.properties, old hashes of any known
+ * algorithm can be checked and should be replaced on sign in.
  *
  * @author Maxim Semenko
  * @version 0.0.1
@@ -20,12 +23,29 @@ public class PasswordSecurityService {
     private static final ReentrantLock lock = new ReentrantLock();
     private static final AtomicBoolean instanceCreated = new AtomicBoolean(false);
 
+    private static final String PASSWORD_ALGORITHM = "password.algorithm";
+    private static final String PASSWORD_BCRYPT_ROUNDS = "password.bcrypt.rounds";
+    private static final String PASSWORD_PBKDF2_ITERATIONS = "password.pbkdf2.iterations";
+    private static final String PBKDF2 = "pbkdf2";
+
+    private final Md5PasswordHasher md5PasswordHasher = new Md5PasswordHasher();
+    private final PasswordHasher currentHasher;
+    private final List<PasswordHasher> hashers;
+
+    PasswordSecurityService(PasswordHasher currentHasher) {
+        this.currentHasher = currentHasher;
+        this.hashers = Arrays.asList(currentHasher,
+                new BCryptPasswordHasher(10),
+                new Pbkdf2PasswordHasher(210000),
+                md5PasswordHasher);
+    }
+
     public static PasswordSecurityService getInstance() {
         if (!instanceCreated.get()) {
             lock.lock();
             try {
                 if (instance == null) {
-                    instance = new PasswordSecurityService();
+                    instance = new PasswordSecurityService(createHasher());
                     instanceCreated.set(true);
                 }
             } finally {
@@ -36,25 +56,73 @@ public class PasswordSecurityService {
     }
 
     /**
-     * Method hashing password.
+     * Method that creates {@link PasswordHasher} for new passwords.
+     *
+     * @return {@link PasswordHasher} bcrypt, if other algorithm is not set
+     */
+    private static PasswordHasher createHasher() {
+        PasswordHasher hasher = PBKDF2.equals(getString(PASSWORD_ALGORITHM, "bcrypt"))
+                ? new Pbkdf2PasswordHasher(Integer.parseInt(getString(PASSWORD_PBKDF2_ITERATIONS, "210000")))
+                : new BCryptPasswordHasher(Integer.parseInt(getString(PASSWORD_BCRYPT_ROUNDS, "10")));
+        log.info("Password hasher " + hasher.getClass().getSimpleName());
+        return hasher;
+    }
+
+    private static String getString(String key, String defaultValue) {
+        return AppPropertiesReaderUtil.RESOURCE_BUNDLE.containsKey(key)
+                ? AppPropertiesReaderUtil.RESOURCE_BUNDLE.getString(key).trim()
+                : defaultValue;
+    }
+
+    /**
+     * Method hashing password by MD5, it is kept for old hashes only.
      *
      * @param password {@link String} in text format
      * @return {@link String} in MD5 format
      */
     public String doHashing(String password) {
-        StringBuilder sb = new StringBuilder();
-        try {
-            MessageDigest messageDigest = MessageDigest.getInstance("MD5");
-            messageDigest.update(password.getBytes());
-            byte[] resultByteArray = messageDigest.digest();
-
-            for (byte b : resultByteArray) {
-                sb.append(String.format("%02X", b));
+        return md5PasswordHasher.hash(password);
+    }
+
+    /**
+     * Method that hashes new password.
+     *
+     * @param password {@link String} in text format
+     * @return {@link String} hash with prefix of algorithm
+     */
+    public String hash(String password) {
+        return currentHasher.hash(password);
+    }
+
+    /**
+     * Method that checks password by algorithm of stored hash.
+     *
+     * @param password {@link String} in text format
+     * @param stored   {@link String} stored hash
+     * @return {@link Boolean} true, if password is right
+     */
+    public boolean matches(String password, String stored) {
+        if (password == null || stored == null) {
+            return false;
+        }
+        for (PasswordHasher hasher : hashers) {
+            if (hasher.supports(stored)) {
+                return hasher.matches(password, stored);
             }
-        } catch (NoSuchAlgorithmException e) {
-            log.error("Can't hash password ", e);
         }
-        return sb.toString();
+        log.warn("Unknown format of password hash");
+        return false;
+    }
+
+    /**
+     * Method that checks if stored hash is made by other algorithm
+     * or work factor and should be replaced.
+     *
+     * @param stored {@link String} stored hash
+     * @return {@link Boolean} true, if hash should be made again
+     */
+    public boolean needsRehash(String stored) {
+        return !currentHasher.supports(stored) || currentHasher.needsRehash(stored);
     }
 
 }
@@ -0,0 +1,78 @@
+package com.epam.jwd.service;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * {@link PasswordHasher} that uses PBKDF2 with HMAC SHA-256,
+ * hash has format "$pbkdf2$iterations$salt$key" in Base64.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+public class Pbkdf2PasswordHasher implements PasswordHasher {
+
+    private static final String PREFIX = "$pbkdf2$";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_LENGTH = 16;
+    private static final int KEY_LENGTH = 256;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+    private final int iterations;
+
+    public Pbkdf2PasswordHasher(int iterations) {
+        this.iterations = iterations;
+    }
+
+    @Override
+    public String hash(String password) {
+        byte[] salt = new byte[SALT_LENGTH];
+        RANDOM.nextBytes(salt);
+        return PREFIX + iterations + "$" + ENCODER.encodeToString(salt)
+                + "$" + ENCODER.encodeToString(derive(password, salt, iterations));
+    }
+
+    @Override
+    public boolean matches(String password, String stored) {
+        String[] parts = stored.substring(PREFIX.length()).split("\\$");
+        if (parts.length != 3) {
+            return false;
+        }
+        try {
+            byte[] key = derive(password, DECODER.decode(parts[1]), Integer.parseInt(parts[0]));
+            return MessageDigest.isEqual(key, DECODER.decode(parts[2]));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean supports(String stored) {
+        return stored.startsWith(PREFIX);
+    }
+
+    @Override
+    public boolean needsRehash(String stored) {
+        int end = stored.indexOf('$', PREFIX.length());
+        return end < 0 || !String.valueOf(iterations).equals(stored.substring(PREFIX.length(), end));
+    }
+
+    private static byte[] derive(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, KEY_LENGTH);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Can't hash password", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
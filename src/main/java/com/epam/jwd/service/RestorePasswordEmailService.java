@@ -1,14 +1,12 @@
 package com.epam.jwd.service;
 
-import com.epam.jwd.context.config.EmailConfiguration;
 import lombok.extern.log4j.Log4j2;
 
 import javax.mail.Message;
 import javax.mail.MessagingException;
-import javax.mail.Session;
-import javax.mail.Transport;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -28,9 +26,8 @@ public class RestorePasswordEmailService implements EmailService {
     private static RestorePasswordEmailService instance;
     private static final ReentrantLock LOCK = new ReentrantLock();
     private static final AtomicBoolean INSTANCE_CREATED = new AtomicBoolean(false);
-    private final EmailConfiguration emailConfiguration = EmailConfiguration.getInstance();
+    private final MailDispatcher mailDispatcher = MailDispatcher.getInstance();
 
-    private int code;
     private static final String textContent = "You have sent a password recovery request. \n" +
             "To continue, enter the verification code on the site: ";
 
@@ -50,29 +47,27 @@ public class RestorePasswordEmailService implements EmailService {
     }
 
     /**
-     * The method that sends message to {@link com.epam.jwd.entity.User}.
+     * The method that puts message to {@link com.epam.jwd.entity.User} into
+     * queue of {@link MailDispatcher}, message is sent in background.
+     * Code must be stored before, because user can get message at once.
      *
      * @param address {@link String} email address, who do we want to send a message
-     * @throws MessagingException exception, if some problems with sending message
+     * @param code    {@link Integer} check code made by {@link #generateCode()}
+     * @throws MessagingException exception, if message can't be built or queue is full
      */
     @Override
-    public void sendMessage(String address) throws MessagingException {
-        code = generateCode();
-        log.info("Generated check code " + code + " for address " + address);
-
-        Session mailSession = Session.getDefaultInstance(emailConfiguration.getPropertiesSessionDefaultInstance());
-        MimeMessage message = new MimeMessage(mailSession);
+    public void sendMessage(String address, int code) throws MessagingException {
+        MimeMessage message = new MimeMessage(mailDispatcher.getSession());
 
         message.setFrom(new InternetAddress("myemail@gmail.com"));
         message.addRecipient(Message.RecipientType.TO, new InternetAddress(address));
         message.setSubject("Restore password");
         message.setText(textContent + code);
 
-        Transport transport = mailSession.getTransport();
-        transport.connect(emailConfiguration.getUsername(), emailConfiguration.getPassword());
-        transport.sendMessage(message, message.getAllRecipients());
-        transport.close();
-        log.info("Transport mail session closed");
+        if (!mailDispatcher.enqueue(message)) {
+            throw new MessagingException("Mail queue is full");
+        }
+        log.info("Message to " + address + " queued");
     }
 
     /**
@@ -80,11 +75,7 @@ public class RestorePasswordEmailService implements EmailService {
      *
      * @return {@link Integer} check code
      */
-    private int generateCode() {
-        return (int) (1000 + Math.random() * 8999);
-    }
-
-    public int getGenerateCode() {
-        return code;
+    public int generateCode() {
+        return ThreadLocalRandom.current().nextInt(1000, 10000);
     }
 }
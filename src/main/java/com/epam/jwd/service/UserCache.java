@@ -0,0 +1,332 @@
+package com.epam.jwd.service;
+
+import com.epam.jwd.dao.impl.UserDao;
+import com.epam.jwd.entity.User;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Class that keeps recently read {@link User} in memory by id and login.
+ * Missed user is read from database and kept until time to live is over
+ * or cache is full, then least recently used user is dropped. Every write
+ * of user invalidates cache, user loaded before invalidation isn't put to
+ * cache, so next read after committed write goes to database. Users are
+ * copied on the way in and out, because callers change them.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+@Log4j2
+public class UserCache {
+
+    private static UserCache instance;
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final AtomicBoolean INSTANCE_CREATED = new AtomicBoolean(false);
+
+    private static final int MAX_SIZE = 10_000;
+    private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final IntFunction<User> idLoader;
+    private final Function<String, User> loginLoader;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    private final ReentrantLock cacheLock = new ReentrantLock();
+    private final LinkedHashMap<Integer, CachedUser> usersById = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Integer> idsByLogin = new HashMap<>();
+    private long generation;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong expirationCount = new AtomicLong();
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong loadNanos = new AtomicLong();
+
+    /**
+     * Copy of user with time, when it must be read again.
+     */
+    private static final class CachedUser {
+        private final User user;
+        private final long expiresAt;
+
+        private CachedUser(User user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    UserCache(IntFunction<User> idLoader, Function<String, User> loginLoader,
+              int maxSize, long ttlMillis, LongSupplier clock) {
+        this.idLoader = idLoader;
+        this.loginLoader = loginLoader;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    public static UserCache getInstance() {
+        if (!INSTANCE_CREATED.get()) {
+            LOCK.lock();
+            try {
+                if (instance == null) {
+                    UserDao userDao = UserDao.getInstance();
+                    instance = new UserCache(userDao::selectById, userDao::selectByLogin,
+                            MAX_SIZE, TTL_MILLIS, System::currentTimeMillis);
+                    INSTANCE_CREATED.set(true);
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Method that returns user by id, user is read from database on miss.
+     *
+     * @param id {@link Integer} id of user
+     * @return {@link User} copy of user, null if user doesn't exist
+     */
+    public User getById(int id) {
+        cacheLock.lock();
+        try {
+            User user = lookup(id);
+            if (user != null) {
+                return user;
+            }
+        } finally {
+            cacheLock.unlock();
+        }
+        return load(() -> idLoader.apply(id));
+    }
+
+    /**
+     * Method that returns user by login, user is read from database on miss.
+     *
+     * @param login {@link String} login of user
+     * @return {@link User} copy of user, null if user doesn't exist
+     */
+    public User getByLogin(String login) {
+        cacheLock.lock();
+        try {
+            Integer id = idsByLogin.get(login);
+            User user = id == null ? null : lookup(id);
+            if (user != null) {
+                return user;
+            }
+        } finally {
+            cacheLock.unlock();
+        }
+        return load(() -> loginLoader.apply(login));
+    }
+
+    /**
+     * Method that drops user from cache, it must be called after
+     * every insert, update or removal of user.
+     *
+     * @param user {@link User} changed user
+     */
+    public void invalidate(User user) {
+        cacheLock.lock();
+        try {
+            generation++;
+            remove(user.getId());
+            Integer id = idsByLogin.get(user.getLogin());
+            if (id != null) {
+                remove(id);
+            }
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    /**
+     * Method that drops user from cache by id.
+     *
+     * @param id {@link Integer} id of changed user
+     */
+    public void invalidate(int id) {
+        cacheLock.lock();
+        try {
+            generation++;
+            remove(id);
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    /**
+     * Method that drops all users, it is called after changes of many users.
+     */
+    public void invalidateAll() {
+        cacheLock.lock();
+        try {
+            generation++;
+            usersById.clear();
+            idsByLogin.clear();
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    /**
+     * Method that logs metrics and drops all users, if cache was created.
+     */
+    public static void shutdownIfCreated() {
+        if (INSTANCE_CREATED.get()) {
+            log.info("User cache " + instance);
+            instance.invalidateAll();
+        }
+    }
+
+    /**
+     * Method that finds live user, must be called under lock.
+     *
+     * @param id {@link Integer} id of user
+     * @return {@link User} copy of user, null on miss
+     */
+    private User lookup(int id) {
+        CachedUser cachedUser = usersById.get(id);
+        if (cachedUser == null) {
+            return null;
+        }
+        if (cachedUser.expiresAt <= clock.getAsLong()) {
+            remove(id);
+            expirationCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return cachedUser.user.copy();
+    }
+
+    /**
+     * Method that reads user from database without lock and puts it to cache,
+     * if nothing was invalidated while it was read.
+     *
+     * @param loader {@link Supplier<User>} read from database
+     * @return {@link User} loaded user, null if user doesn't exist
+     */
+    private User load(Supplier<User> loader) {
+        missCount.incrementAndGet();
+        long loadGeneration;
+        cacheLock.lock();
+        try {
+            loadGeneration = generation;
+        } finally {
+            cacheLock.unlock();
+        }
+        long start = System.nanoTime();
+        User user = loader.get();
+        loadNanos.addAndGet(System.nanoTime() - start);
+        loadCount.incrementAndGet();
+        if (user == null) {
+            return null;
+        }
+        cacheLock.lock();
+        try {
+            if (loadGeneration == generation) {
+                put(user.copy());
+            }
+        } finally {
+            cacheLock.unlock();
+        }
+        return user;
+    }
+
+    /**
+     * Method that puts user to both indices and drops least recently
+     * used users over max size, must be called under lock.
+     *
+     * @param user {@link User} copy of user
+     */
+    private void put(User user) {
+        remove(user.getId());
+        usersById.put(user.getId(), new CachedUser(user, clock.getAsLong() + ttlMillis));
+        idsByLogin.put(user.getLogin(), user.getId());
+        Iterator<Map.Entry<Integer, CachedUser>> iterator = usersById.entrySet().iterator();
+        while (usersById.size() > maxSize && iterator.hasNext()) {
+            Map.Entry<Integer, CachedUser> eldest = iterator.next();
+            iterator.remove();
+            idsByLogin.remove(eldest.getValue().user.getLogin(), eldest.getKey());
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Method that removes user from both indices, must be called under lock.
+     *
+     * @param id {@link Integer} id of user
+     */
+    private void remove(int id) {
+        CachedUser cachedUser = usersById.remove(id);
+        if (cachedUser != null) {
+            idsByLogin.remove(cachedUser.user.getLogin(), id);
+        }
+    }
+
+    public int size() {
+        cacheLock.lock();
+        try {
+            return usersById.size();
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public double getHitRatio() {
+        long hits = hitCount.get();
+        long requests = hits + missCount.get();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public long getExpirationCount() {
+        return expirationCount.get();
+    }
+
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    public long getAverageLoadMicros() {
+        long loads = loadCount.get();
+        return loads == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(loadNanos.get() / loads);
+    }
+
+    @Override
+    public String toString() {
+        return "UserCache{size=" + size()
+                + ", hits=" + getHitCount()
+                + ", misses=" + getMissCount()
+                + ", hitRatio=" + String.format("%.3f", getHitRatio())
+                + ", evictions=" + getEvictionCount()
+                + ", expirations=" + getExpirationCount()
+                + ", averageLoadMicros=" + getAverageLoadMicros() + "}";
+    }
+}
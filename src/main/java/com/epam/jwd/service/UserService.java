@@ -1,25 +1,25 @@
 package com.epam.jwd.service;
 
+import com.epam.jwd.context.config.DatabaseConfiguration;
 import com.epam.jwd.dao.impl.UserDao;
+import com.epam.jwd.entity.EnrollmentReport;
 import com.epam.jwd.entity.EnumUserRole;
+import com.epam.jwd.entity.EnumUserSort;
 import com.epam.jwd.entity.EnumUserStatus;
-import com.epam.jwd.entity.Faculty;
 import com.epam.jwd.entity.User;
 import com.epam.jwd.entity.UserBuilder;
 import com.epam.jwd.entity.UserCriteria;
+import com.epam.jwd.entity.UserPage;
 import com.epam.jwd.exception.ValidatorException;
 import com.epam.jwd.validator.UserValidator;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * {@link UserService} UserService, which is intended for business logic
@@ -78,12 +78,15 @@ public class UserService {
      * Method that inserts {@link User} to table app_user.
      *
      * @param user {@link User} insert object
+     * @return {@link Boolean} false, if user isn't saved
      * @throws ValidatorException if not valid date
      */
-    public void insert(User user) throws ValidatorException {
+    public boolean insert(User user) throws ValidatorException {
         if (UserValidator.getInstance().validate(user)) {
-            user.setPassword(PasswordSecurityService.getInstance().doHashing(user.getPassword()));
-            userDao.insert(user);
+            user.setPassword(PasswordSecurityService.getInstance().hash(user.getPassword()));
+            boolean inserted = userDao.insert(user);
+            UserCache.getInstance().invalidate(user);
+            return inserted;
         } else {
             throw new ValidatorException("User validator exception");
         }
@@ -98,19 +101,76 @@ public class UserService {
     public void update(User user) throws ValidatorException {
         if (UserValidator.getInstance().validate(user)) {
             userDao.update(user);
+            UserCache.getInstance().invalidate(user);
+            EnrolledListCache.getInstance().invalidate();
         } else {
             throw new ValidatorException("User validator exception");
         }
     }
 
     /**
-     * Method that selects {@link User} by id in table app_user.
+     * Method that selects {@link User} by id through {@link UserCache}.
      *
      * @param id {@link Integer} the value for search in table
      * @return {@link User} object, which we want to get by id
      */
     public User selectById(int id) {
-        return userDao.selectById(id);
+        return UserCache.getInstance().getById(id);
+    }
+
+    /**
+     * Method that selects {@link User} by login through {@link UserCache}.
+     * Logins are compared case-sensitive, like in search by criteria.
+     *
+     * @param login {@link String} the value for search in table
+     * @return {@link Optional<User>} optional of user
+     */
+    public Optional<User> getByLogin(String login) {
+        return Optional.ofNullable(UserCache.getInstance().getByLogin(login))
+                .filter(user -> user.getLogin().equals(login));
+    }
+
+    /**
+     * Method that selects {@link User}, whose login differs from given
+     * one only by case. Unique index of app_user.login ignores case,
+     * so sign up and change of login check taken logins by this method.
+     *
+     * @param login {@link String} the value for search in table
+     * @return {@link Optional<User>} optional of user
+     */
+    public Optional<User> getByLoginIgnoreCase(String login) {
+        return Optional.ofNullable(UserCache.getInstance().getByLogin(login))
+                .filter(user -> user.getLogin().equalsIgnoreCase(login));
+    }
+
+    /**
+     * Method that selects {@link User} by login and checks password.
+     * Hash of old algorithm or work factor is replaced after successful check.
+     *
+     * @param login    {@link String} login
+     * @param password {@link String} password in text format
+     * @return {@link Optional<User>} optional of user
+     */
+    public Optional<User> getByLoginAndPassword(String login, String password) {
+        PasswordSecurityService passwordSecurityService = PasswordSecurityService.getInstance();
+        Optional<User> optionalUser = getByLogin(login)
+                .filter(user -> passwordSecurityService.matches(password, user.getPassword()));
+        optionalUser
+                .filter(user -> passwordSecurityService.needsRehash(user.getPassword()))
+                .ifPresent(user -> rehashPassword(user, password));
+        return optionalUser;
+    }
+
+    /**
+     * Method that stores password of {@link User} hashed by current algorithm.
+     *
+     * @param user     {@link User} signed in user
+     * @param password {@link String} password in text format
+     */
+    private void rehashPassword(User user, String password) {
+        user.setPassword(PasswordSecurityService.getInstance().hash(password));
+        userDao.update(user);
+        UserCache.getInstance().invalidate(user);
     }
 
     /**
@@ -122,11 +182,25 @@ public class UserService {
         return userDao.selectAll();
     }
 
+    /**
+     * Method that selects one page of {@link User}, size of page
+     * is set in {@link DatabaseConfiguration}.
+     *
+     * @param afterId {@link Integer} id of last user of previous page, zero for first page
+     * @param sort    {@link EnumUserSort} order by id
+     * @return {@link UserPage} page of users
+     */
+    public UserPage selectPage(int afterId, EnumUserSort sort) {
+        return userDao.selectPage(afterId, DatabaseConfiguration.getInstance().getPageSize(), sort);
+    }
+
     /**
      * Method that deletes {@link User} by id from table.
      */
     public void removeById(Integer id) {
         userDao.removeById(id);
+        UserCache.getInstance().invalidate(id);
+        EnrolledListCache.getInstance().invalidate();
     }
 
     /**
@@ -134,6 +208,8 @@ public class UserService {
      */
     public void removeAllUsers() {
         userDao.removeAllUsers();
+        UserCache.getInstance().invalidateAll();
+        EnrolledListCache.getInstance().invalidate();
     }
 
     /**
@@ -144,6 +220,7 @@ public class UserService {
      */
     public void removeEnrolledList() throws ValidatorException {
         userDao.removeAllFromEnrolledList();
+        EnrolledListCache.getInstance().refresh();
         List<User> userList = selectAll();
         for (User user : userList) {
             user.setUserStatus(EnumUserStatus.UNKNOWN);
@@ -155,28 +232,40 @@ public class UserService {
      * The method gets all {@link User} all, calculates the sum of points,
      * sorts by points and then leaves the required amount. If the
      * user is enrolled, his {@link EnumUserStatus } status is update
-     * to enrolled, else no enrolled.
+     * to enrolled, else no enrolled. All changes are saved in one transaction.
      *
      * @param userList {@link List<User>} all users
-     * @throws ValidatorException if update has problems
+     * @return {@link EnrollmentReport} rows processed and time taken
      */
-    public void insertToEnrolledList(List<User> userList) throws ValidatorException {
+    public EnrollmentReport insertToEnrolledList(List<User> userList) {
         prepareUsersForEntrant(userList);
-        userList = sort(userList);
-        List<User> enrolledList = new ArrayList<>();
-        for (Faculty faculty : FacultyService.getInstance().selectAll()) {
-            List<User> list = userList
-                    .stream()
-                    .filter(user -> user.getFacultyId() == faculty.getType().getId())
-                    .limit(faculty.getCountPlaces())
-                    .collect(Collectors.toList());
-            enrolledList.addAll(list);
-        }
+        List<User> enrolledList = EnrolledListRanker.getInstance()
+                .rank(userList, FacultyService.getInstance().selectAll());
         for (User user : enrolledList) {
             user.setUserStatus(EnumUserStatus.ENROLLED);
-            update(user);
-            userDao.insertToEnrolledList(user);
         }
+        EnrollmentReport report = userDao.saveEnrolledList(userList, enrolledList);
+        UserCache.getInstance().invalidateAll();
+        return report;
+    }
+
+    /**
+     * Method that generates enrolled list by engine chosen in
+     * {@link DatabaseConfiguration}: ranking in database by one
+     * set-based query or ranking of all users in memory. Committed
+     * list replaces snapshot in {@link EnrolledListCache}.
+     *
+     * @return {@link EnrollmentReport} rows processed and time taken
+     */
+    public EnrollmentReport generateEnrolledList() {
+        EnrollmentReport report = DatabaseConfiguration.getInstance().isSqlEnrollment()
+                ? userDao.generateEnrolledList()
+                : insertToEnrolledList(selectAll());
+        if (report.isCommitted()) {
+            UserCache.getInstance().invalidateAll();
+            EnrolledListCache.getInstance().refresh();
+        }
+        return report;
     }
 
     /**
@@ -211,25 +300,57 @@ public class UserService {
     }
 
     /**
-     * Method that returns {@link Stream<User>}.
+     * Method that selects {@link User} by {@link UserCriteria} in database.
+     * Hashes are salted, so password can't be compared in database. Criteria
+     * with password must have login or id, then password of this one user is
+     * checked by {@link #getByLoginAndPassword(String, String)}.
      *
-     * @param uc {@link UserCriteria}
-     * @return {@link Stream<User>}
+     * @param uc    {@link UserCriteria}
+     * @param limit {@link Integer} max count of users, zero means without limit
+     * @return {@link List<User>} empty, if criteria with password has no login and id
      */
-    private Stream<User> getCriteria(UserCriteria uc) {
-        return userDao.selectAll()
-                .stream()
-                .filter(user -> uc.getFirstname() == null || uc.getFirstname().equals(user.getFirstname()))
-                .filter(user -> uc.getLastname() == null || uc.getLastname().equals(user.getLastname()))
-                .filter(user -> uc.getLogin() == null || uc.getLogin().equals(user.getLogin()))
-                .filter(user -> uc.getPassword() == null || PasswordSecurityService.getInstance().doHashing(uc.getPassword()).equals(user.getPassword()))
-                .filter(user -> uc.getEmail() == null || uc.getEmail().equals(user.getEmail()))
+    private List<User> getCriteria(UserCriteria uc, int limit) {
+        if (uc.getPassword() == null) {
+            return userDao.selectByCriteria(uc, limit, 0);
+        }
+        String login = uc.getLogin();
+        if (login == null && uc.getId() != 0) {
+            User user = selectById(uc.getId());
+            login = user == null ? null : user.getLogin();
+        }
+        if (login == null) {
+            return Collections.emptyList();
+        }
+        return getByLoginAndPassword(login, uc.getPassword())
                 .filter(user -> uc.getId() == 0 || uc.getId() == user.getId())
-                .filter(user -> uc.getAverageScore() == 0 || uc.getAverageScore() == user.getAverageScore())
-                .filter(user -> uc.getRussianExamScore() == 0 || uc.getRussianExamScore() == user.getRussianExamScore())
-                .filter(user -> uc.getMathExamScore() == 0 || uc.getMathExamScore() == user.getAverageScore())
-                .filter(user -> uc.getPhysicsExamScore() == 0 || uc.getPhysicsExamScore() == user.getPhysicsExamScore())
-                .filter(user -> uc.getFacultyId() == 0 || uc.getFacultyId() == user.getFacultyId());
+                .filter(user -> !userDao.selectByCriteria(withoutPassword(uc, user.getId()), 1, 0).isEmpty())
+                .map(Collections::singletonList)
+                .orElse(Collections.emptyList());
+    }
+
+    /**
+     * Method that returns {@link UserCriteria} copy without password
+     * for checking other fields of found user in database.
+     *
+     * @param uc {@link UserCriteria}
+     * @param id {@link Integer} id of found user
+     * @return {@link UserCriteria}
+     */
+    private UserCriteria withoutPassword(UserCriteria uc, int id) {
+        return UserCriteria.builder()
+                .login(uc.getLogin())
+                .email(uc.getEmail())
+                .userRole(uc.getUserRole())
+                .firstname(uc.getFirstname())
+                .lastname(uc.getLastname())
+                .averageScore(uc.getAverageScore())
+                .russianExamScore(uc.getRussianExamScore())
+                .mathExamScore(uc.getMathExamScore())
+                .physicsExamScore(uc.getPhysicsExamScore())
+                .facultyId(uc.getFacultyId())
+                .id(id)
+                .sumExams(uc.getSumExams())
+                .build();
     }
 
     /**
@@ -239,7 +360,7 @@ public class UserService {
      * @return {@link Optional<User>} optional of user
      */
     public Optional<User> getByCriteria(UserCriteria uc) {
-        return getCriteria(uc).findFirst();
+        return getCriteria(uc, 1).stream().findFirst();
     }
 
     /**
@@ -249,53 +370,31 @@ public class UserService {
      * @return {@link List<User>} optional of user
      */
     public List<User> getAllByCriteria(UserCriteria uc) {
-        return getCriteria(uc).collect(Collectors.toList());
+        return getCriteria(uc, 0);
     }
 
     /**
-     * Method that return enrolled list.
+     * Method that return enrolled list ordered by faculty
+     * and place in enrolled list.
      *
      * @return {@link List<User>} enrolled list
      */
     public List<User> getEnrolledList() {
-        List<User> userList = new ArrayList<>();
-        Map<Integer, Integer> map = userDao.selectAllEnrolledList();
-        for (Integer key : map.keySet()) {
-            User temp = selectById(key);
-            temp.setSumExams(map.get(key));
-            userList.add(temp);
-        }
-        return sort(userList);
+        return userDao.selectEnrolledWithUsers();
     }
 
     /**
-     * Method calculate {@link Integer} user sum exams,
-     * change {@link EnumUserStatus} user status
-     * and update in database.
+     * Method calculate {@link Integer} user sum exams
+     * and change {@link EnumUserStatus} user status.
      *
      * @param userList {@link List<User>} all Users
-     * @throws ValidatorException if user data not valid
      */
-    private void prepareUsersForEntrant(List<User> userList) throws ValidatorException {
+    private void prepareUsersForEntrant(List<User> userList) {
         for (User user : userList) {
             user.setSumExams(getSumExams(user));
             user.setUserStatus(EnumUserStatus.NO_ENROLLED);
-            update(user);
         }
     }
 
-    /**
-     * Method sort {@link List<User>}
-     *
-     * @param userList {@link List<User>} list
-     * @return sorted {@link List<User>}
-     */
-    private List<User> sort(List<User> userList) {
-        return userList
-                .stream()
-                .sorted(Comparator.comparingInt(User::getSumExams).reversed())
-                .collect(Collectors.toList());
-    }
-
 
 }
@@ -0,0 +1,44 @@
+package com.epam.jwd.service;
+
+/**
+ * Store of verification codes for restore password. Code is kept
+ * for limited time and can be checked limited number of times.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+public interface VerificationCodeStore {
+
+    /**
+     * Method that saves new code, previous code of the same key is replaced.
+     *
+     * @param key  {@link String} login of {@link com.epam.jwd.entity.User}
+     * @param code {@link Integer} generated code
+     */
+    void put(String key, int code);
+
+    /**
+     * Method that checks code. Right code is removed from store, so
+     * it can be used once. Code is also removed when it is expired
+     * or all attempts are used.
+     *
+     * @param key  {@link String} login of {@link com.epam.jwd.entity.User}
+     * @param code {@link Integer} code from request
+     * @return {@link Boolean} true, if code is right and not expired
+     */
+    boolean verify(String key, int code);
+
+    /**
+     * Method that removes code.
+     *
+     * @param key {@link String} login of {@link com.epam.jwd.entity.User}
+     */
+    void remove(String key);
+
+    /**
+     * Method that releases resources of store on application shutdown.
+     */
+    default void shutdown() {
+    }
+}
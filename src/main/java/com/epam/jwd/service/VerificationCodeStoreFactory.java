@@ -0,0 +1,69 @@
+package com.epam.jwd.service;
+
+import com.epam.jwd.util.AppPropertiesReaderUtil;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Class that gives {@link VerificationCodeStore} chosen in app.properties
+ * by key "verification.store". Commands get store here only, so another
+ * implementation, e.g. shared by several nodes, is added in this class.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+@Log4j2
+public final class VerificationCodeStoreFactory {
+
+    private static VerificationCodeStore store;
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final AtomicBoolean STORE_CREATED = new AtomicBoolean(false);
+
+    private static final String VERIFICATION_STORE = "verification.store";
+    private static final String MEMORY = "memory";
+
+    private VerificationCodeStoreFactory() {
+    }
+
+    public static VerificationCodeStore getStore() {
+        if (!STORE_CREATED.get()) {
+            LOCK.lock();
+            try {
+                if (store == null) {
+                    store = createStore();
+                    STORE_CREATED.set(true);
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+        return store;
+    }
+
+    /**
+     * Method that stops store, if it was created.
+     */
+    public static void shutdownIfCreated() {
+        if (STORE_CREATED.get()) {
+            store.shutdown();
+        }
+    }
+
+    /**
+     * Method that creates store by name from app.properties.
+     *
+     * @return {@link VerificationCodeStore} store in memory, if other one is not set
+     */
+    private static VerificationCodeStore createStore() {
+        String name = AppPropertiesReaderUtil.RESOURCE_BUNDLE.containsKey(VERIFICATION_STORE)
+                ? AppPropertiesReaderUtil.RESOURCE_BUNDLE.getString(VERIFICATION_STORE).trim()
+                : MEMORY;
+        if (!MEMORY.equals(name)) {
+            log.warn("Unknown verification code store " + name + ", store in memory is used");
+        }
+        return InMemoryVerificationCodeStore.getInstance();
+    }
+}
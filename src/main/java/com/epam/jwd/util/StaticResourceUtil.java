@@ -0,0 +1,40 @@
+package com.epam.jwd.util;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class that recognizes requests for static resources, they are served
+ * by {@link com.epam.jwd.controller.StaticResourceController} and
+ * pass filters of dynamic pages without processing.
+ *
+ * @author Maxim Semenko
+ * @version 0.0.1
+ */
+
+public final class StaticResourceUtil {
+
+    /**
+     * {@link List} prefixes of servlet paths of static resources.
+     */
+    private static final List<String> STATIC_RESOURCE_PREFIXES = Collections.singletonList("/img/");
+
+    private StaticResourceUtil() {
+    }
+
+    /**
+     * Method that checks if request is for static resource.
+     *
+     * @param request {@link ServletRequest} request
+     * @return {@link Boolean} true, if servlet path is path of static resource
+     */
+    public static boolean isStaticResource(ServletRequest request) {
+        if (!(request instanceof HttpServletRequest)) {
+            return false;
+        }
+        String path = ((HttpServletRequest) request).getServletPath();
+        return path != null && STATIC_RESOURCE_PREFIXES.stream().anyMatch(path::startsWith);
+    }
+}
@@ -0,0 +1,15 @@
+-- Unique index for login lookup of UserDao.selectByLogin.
+-- Column keeps default case-insensitive collation, so "Admin" and "admin"
+-- are one login: sign up and change of login check it by
+-- UserService.getByLoginIgnoreCase, sign in compares login exactly.
+
+-- Logins, which differ only by case, must be renamed or removed before
+-- the index is added, otherwise ALTER TABLE below fails. This query
+-- must return no rows.
+SELECT LOWER(login) AS login, COUNT(*) AS users, GROUP_CONCAT(id ORDER BY id) AS ids
+FROM app_user
+GROUP BY LOWER(login)
+HAVING COUNT(*) > 1;
+
+ALTER TABLE app_user
+    ADD CONSTRAINT app_user_login_uindex UNIQUE (login);
@@ -0,0 +1,5 @@
+-- Id of app_user is generated by database, UserDao.insert reads it by getGeneratedKeys
+SET FOREIGN_KEY_CHECKS = 0;
+ALTER TABLE app_user
+    MODIFY id INT NOT NULL AUTO_INCREMENT;
+SET FOREIGN_KEY_CHECKS = 1;
@@ -0,0 +1,4 @@
+-- Column of password keeps hash with algorithm prefix: bcrypt hash has
+-- 60 chars, PBKDF2 hash has about 80 chars, old MD5 hash has 32 chars.
+ALTER TABLE app_user
+    MODIFY password VARCHAR(255) NOT NULL;
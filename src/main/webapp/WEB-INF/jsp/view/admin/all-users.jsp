@@ -43,6 +43,13 @@
     </div>
 </div>
 <div class="container-fluid">
+    <c:set var="sortName" value="${requestScope.usersPage.sort == 'DESC' ? 'desc' : 'asc'}"/>
+    <div class="d-flex justify-content-between align-items-center mb-2">
+        <span><fmt:message key="admin.allUsers.total"/>: <c:out value="${requestScope.usersPage.totalCount}"/></span>
+        <a href="home?command=admin/all-users&sort=${sortName == 'asc' ? 'desc' : 'asc'}">
+            <fmt:message key="admin.allUsers.sort"/> ${sortName == 'asc' ? '&darr;' : '&uarr;'}
+        </a>
+    </div>
     <table class="table table-striped table-bordered">
         <thead>
         <tr>
@@ -77,6 +84,8 @@
                 <td>
                     <form action="home?command=remove-user-by-admin" method="post">
                         <label><input type="number" hidden name="id" value="${user.id}"></label>
+                        <input type="hidden" name="after" value="${requestScope.usersPage.afterId}">
+                        <input type="hidden" name="sort" value="${sortName}">
                         <button class="btn btn-success btn-block" type="submit">
                             <fmt:message key="admin.allUsers.delete"/>
                         </button>
@@ -87,6 +96,19 @@
         </c:forEach>
         </tbody>
     </table>
+    <div class="d-flex justify-content-between mb-3">
+        <c:if test="${requestScope.usersPage.afterId > 0}">
+            <a class="btn btn-outline-primary" href="home?command=admin/all-users&sort=${sortName}">
+                <fmt:message key="admin.allUsers.first"/>
+            </a>
+        </c:if>
+        <c:if test="${requestScope.usersPage.hasNext}">
+            <a class="btn btn-outline-primary ml-auto"
+               href="home?command=admin/all-users&after=${requestScope.usersPage.nextAfterId}&sort=${sortName}">
+                <fmt:message key="admin.allUsers.next"/>
+            </a>
+        </c:if>
+    </div>
 </div>
 <%@include file="../subsidiary/footer.jsp" %>
 </body>
@@ -43,10 +43,9 @@
     </div>
 
     <div id="to_pdf">
-        <%@include file="../admin/enrolled-list-1.jsp" %>
-        <%@include file="../admin/enrolled-list-2.jsp" %>
-        <%@include file="../admin/enrolled-list-3.jsp" %>
-        <%@include file="../admin/enrolled-list-4.jsp" %>
+        <c:forEach var="facultyEntry" items="${requestScope.enrolledListByFaculty}">
+            <%@include file="../admin/enrolled-list-faculty.jsp" %>
+        </c:forEach>
     </div>
 </div>
 <%@include file="../subsidiary/footer.jsp" %>
@@ -0,0 +1,18 @@
+<%@ page contentType="text/html;charset=UTF-8" language="java" session="false" %>
+<%@include file="../subsidiary/language.jsp" %>
+
+<html>
+<head>
+    <title><fmt:message key="home.busy.title"/></title>
+    <%@include file="../subsidiary/bootstrap.jsp" %>
+</head>
+<body>
+<section class="jumbotron text-center">
+    <div class="container">
+        <h1><fmt:message key="home.busy.title"/></h1>
+        <p class="lead text-muted"><fmt:message key="home.busy"/></p>
+        <a class="btn btn-primary" href="<c:url value="/home"/>"><fmt:message key="home.busy.back"/></a>
+    </div>
+</section>
+</body>
+</html>
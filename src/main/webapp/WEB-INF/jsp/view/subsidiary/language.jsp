@@ -1,8 +1,22 @@
 <%@ page contentType="text/html;charset=UTF-8" language="java" %>
+<%@ page import="javax.servlet.jsp.jstl.core.Config" %>
 <%@taglib prefix="fmt" uri="http://java.sun.com/jsp/jstl/fmt" %>
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
-<c:set var="current" value="${param.ddlLanguage}" scope="session"/>
-<c:if test="${not empty current }">
-    <fmt:setLocale value="${current}" scope="session"/>
-</c:if>
-<fmt:setBundle basename="page" scope="session"/>
+<%-- Chosen language is kept in session, session is created only when
+     language is chosen. Locale is copied to request scope, so pages
+     with session="false" are rendered in chosen language too. --%>
+<%
+    String chosenLanguage = request.getParameter("ddlLanguage");
+    boolean isLanguageChosen = chosenLanguage != null && !chosenLanguage.isEmpty();
+    HttpSession languageSession = request.getSession(isLanguageChosen);
+    if (languageSession != null) {
+        if (isLanguageChosen) {
+            Config.set(languageSession, Config.FMT_LOCALE, chosenLanguage);
+        }
+        Object locale = Config.get(languageSession, Config.FMT_LOCALE);
+        if (locale != null) {
+            Config.set(request, Config.FMT_LOCALE, locale);
+        }
+    }
+%>
+<fmt:setBundle basename="page" scope="request"/>
@@ -1,5 +1,6 @@
-<%@ page contentType="text/html;charset=UTF-8" language="java" %>
+<%@ page contentType="text/html;charset=UTF-8" language="java" session="false" %>
 <%@include file="../subsidiary/language.jsp" %>
+<c:set var="userSession" value="${pageContext.request.getSession(false)}"/>
 
 <html>
 <head>
@@ -18,13 +19,13 @@
 
 <main role="main">
 
-    <c:if test="${sessionScope.isLogout == true}">
+    <c:if test="${userSession.getAttribute('isLogout') == true}">
         <div class="alert alert-danger alert-dismissible fade show">
             <button type="button" class="close" data-dismiss="alert">&times;</button>
             <fmt:message key="home.sessionOut"/>
         </div>
     </c:if>
-    <c:if test="${sessionScope.notFound == true}">
+    <c:if test="${userSession.getAttribute('notFound') == true}">
         <div class="alert alert-danger alert-dismissible fade show">
             <button type="button" class="close" data-dismiss="alert">&times;</button>
             <fmt:message key="home.error"/>
@@ -1,4 +1,4 @@
-<%@ page contentType="text/html;charset=UTF-8" language="java" %>
+<%@ page contentType="text/html;charset=UTF-8" language="java" session="false" %>
 <%@include file="../subsidiary/language.jsp" %>
 
 <html>
@@ -29,6 +29,12 @@
                     <fmt:message key="signup.error"/>
                 </div>
             </c:if>
+            <c:if test="${requestScope.checkError == true}">
+                <div class="alert alert-danger alert-dismissible fade show">
+                    <button type="button" class="close" data-dismiss="alert">&times;</button>
+                    <fmt:message key="signup.failed"/>
+                </div>
+            </c:if>
             <form class="needs-validation" action="home?command=sign-up-user" method="post">
                 <div class="row">
                     <div class="col-md-6 mb-3">
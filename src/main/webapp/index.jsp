@@ -1,12 +1,14 @@
+<%@ page session="false" %>
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
 <html>
 <body>
-<c:if test="${sessionScope.user != null}">
+<c:set var="user" value="${pageContext.request.getSession(false).getAttribute('user')}"/>
+<c:if test="${user != null}">
     <c:choose>
-        <c:when test = "${sessionScope.user.userRole.getId() == 1}">
+        <c:when test = "${user.userRole.getId() == 1}">
             <jsp:forward page="WEB-INF/jsp/view/admin/main-admin.jsp"/>
         </c:when>
-        <c:when test = "${sessionScope.user.userRole.getId() == 2}">
+        <c:when test = "${user.userRole.getId() == 2}">
             <jsp:forward page="WEB-INF/jsp/view/user/user-cabinet.jsp"/>
         </c:when>
     </c:choose>
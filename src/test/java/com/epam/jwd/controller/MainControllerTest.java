@@ -56,7 +56,7 @@ public class MainControllerTest {
 
     @Test
     public void testDoPost() throws ServletException, IOException {
-        when(req.getSession()).thenReturn(session);
+        when(req.getSession(false)).thenReturn(session);
         when(req.getParameter("command")).thenReturn("sign-out");
         final Command command = CommandFactory.getCommand(req.getParameter("command"));
 
@@ -0,0 +1,170 @@
+package com.epam.jwd.controller;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import javax.servlet.ServletConfig;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class StaticResourceControllerTest {
+
+    static final byte[] PNG = new byte[]{(byte) 0x89, 'P', 'N', 'G', 1, 2, 3};
+    static final String SVG = repeat("<svg><circle r=\"1\"/></svg>", 40);
+
+    ServletContext servletContext;
+    StaticResourceController controller;
+    HttpServletRequest req;
+    HttpServletResponse resp;
+    ByteArrayOutputStream body;
+
+    static String repeat(String value, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(value);
+        }
+        return sb.toString();
+    }
+
+    @Before
+    public void setUp() throws ServletException, IOException {
+        servletContext = mock(ServletContext.class);
+        when(servletContext.getResourceAsStream("/img/logo.png")).thenAnswer(invocation -> new ByteArrayInputStream(PNG));
+        when(servletContext.getResourceAsStream("/img/user.svg"))
+                .thenAnswer(invocation -> new ByteArrayInputStream(SVG.getBytes(StandardCharsets.UTF_8)));
+        when(servletContext.getResourceAsStream("/img/logo.png.br")).thenAnswer(invocation -> new ByteArrayInputStream(new byte[]{9}));
+        when(servletContext.getMimeType("/logo.png")).thenReturn("image/png");
+        when(servletContext.getMimeType("/user.svg")).thenReturn("image/svg+xml");
+        ServletConfig servletConfig = mock(ServletConfig.class);
+        when(servletConfig.getServletContext()).thenReturn(servletContext);
+        controller = new StaticResourceController();
+        controller.init(servletConfig);
+        newRequest();
+    }
+
+    private void newRequest() throws IOException {
+        req = mock(HttpServletRequest.class);
+        resp = mock(HttpServletResponse.class);
+        body = new ByteArrayOutputStream();
+        when(resp.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+        });
+    }
+
+    @Test
+    public void testResourceIsServedWithCacheHeaders() throws IOException {
+        when(req.getPathInfo()).thenReturn("/logo.png");
+        controller.doGet(req, resp);
+        verify(resp).setContentType("image/png");
+        verify(resp).setHeader("Cache-Control", "public, max-age=86400");
+        verify(resp).setHeader(eq("ETag"), anyString());
+        verify(resp, never()).setHeader(eq("Content-Encoding"), anyString());
+        Assert.assertArrayEquals(PNG, body.toByteArray());
+    }
+
+    @Test
+    public void testMatchingETagGetsNotModified() throws IOException {
+        when(req.getPathInfo()).thenReturn("/logo.png");
+        controller.doGet(req, resp);
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(resp).setHeader(eq("ETag"), captor.capture());
+        String eTag = captor.getValue();
+
+        newRequest();
+        when(req.getPathInfo()).thenReturn("/logo.png");
+        when(req.getHeader("If-None-Match")).thenReturn(eTag);
+        controller.doGet(req, resp);
+        verify(resp).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        Assert.assertEquals(0, body.size());
+    }
+
+    @Test
+    public void testPrecompressedBrotliVariantIsPreferred() throws IOException {
+        when(req.getPathInfo()).thenReturn("/logo.png");
+        when(req.getHeader("Accept-Encoding")).thenReturn("gzip, deflate, br");
+        controller.doGet(req, resp);
+        verify(resp).setHeader("Content-Encoding", "br");
+        verify(resp).setHeader("Vary", "Accept-Encoding");
+        Assert.assertArrayEquals(new byte[]{9}, body.toByteArray());
+    }
+
+    @Test
+    public void testTextResourceIsGzipped() throws IOException {
+        when(req.getPathInfo()).thenReturn("/user.svg");
+        when(req.getHeader("Accept-Encoding")).thenReturn("gzip");
+        controller.doGet(req, resp);
+        verify(resp).setHeader("Content-Encoding", "gzip");
+        ByteArrayOutputStream unzipped = new ByteArrayOutputStream();
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(body.toByteArray()))) {
+            byte[] buffer = new byte[1024];
+            int length;
+            while ((length = gzipInputStream.read(buffer)) != -1) {
+                unzipped.write(buffer, 0, length);
+            }
+        }
+        Assert.assertEquals(SVG, new String(unzipped.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testMissingResourceAndTraversalGetNotFound() throws IOException {
+        when(req.getPathInfo()).thenReturn("/missing.png");
+        controller.doGet(req, resp);
+        verify(resp).sendError(HttpServletResponse.SC_NOT_FOUND);
+
+        newRequest();
+        when(req.getPathInfo()).thenReturn("/../WEB-INF/web.xml");
+        controller.doGet(req, resp);
+        verify(resp).sendError(HttpServletResponse.SC_NOT_FOUND);
+    }
+
+    @Test
+    public void testMissingResourceIsNotCached() throws IOException {
+        when(req.getPathInfo()).thenReturn("/new.png");
+        controller.doGet(req, resp);
+        verify(resp).sendError(HttpServletResponse.SC_NOT_FOUND);
+
+        when(servletContext.getResourceAsStream("/img/new.png")).thenAnswer(invocation -> new ByteArrayInputStream(PNG));
+        newRequest();
+        when(req.getPathInfo()).thenReturn("/new.png");
+        controller.doGet(req, resp);
+        verify(resp, never()).sendError(HttpServletResponse.SC_NOT_FOUND);
+        Assert.assertArrayEquals(PNG, body.toByteArray());
+    }
+
+    @Test
+    public void testAcceptEncodingWithZeroQualityIsRefused() {
+        Assert.assertTrue(StaticResourceController.accepts("gzip;q=0.5, br", "br"));
+        Assert.assertFalse(StaticResourceController.accepts("gzip, br;q=0", "br"));
+        Assert.assertFalse(StaticResourceController.accepts("deflate", "gzip"));
+    }
+}
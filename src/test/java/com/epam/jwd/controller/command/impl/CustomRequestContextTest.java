@@ -0,0 +1,84 @@
+package com.epam.jwd.controller.command.impl;
+
+import com.epam.jwd.controller.command.RequestContext;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CustomRequestContextTest {
+
+    HttpServletRequest req;
+    RequestContext requestContext;
+
+    @Before
+    public void setUp() {
+        Map<String, String[]> parameterMap = new LinkedHashMap<>();
+        parameterMap.put("command", new String[]{"edit-faculty"});
+        parameterMap.put("id", new String[]{"3"});
+        parameterMap.put("countPlaces", new String[]{"25", "30"});
+        req = mock(HttpServletRequest.class);
+        when(req.getParameterMap()).thenReturn(parameterMap);
+        when(req.getParameter("id")).thenReturn("3");
+        when(req.getParameter("command")).thenReturn("edit-faculty");
+        requestContext = new CustomRequestContext(req);
+    }
+
+    @Test
+    public void testTypedAccessorsReadRequestDirectly() {
+        Assert.assertEquals(3, requestContext.getInt("id", 0));
+        Assert.assertEquals("edit-faculty", requestContext.getString("command"));
+        Assert.assertNull(requestContext.getString("absent"));
+        verify(req, never()).getParameterMap();
+    }
+
+    @Test
+    public void testGetIntOfAbsentOrNotNumericParameter() {
+        when(req.getParameter("empty")).thenReturn("");
+        when(req.getParameter("text")).thenReturn("abc");
+        Assert.assertEquals(-1, requestContext.getInt("absent", -1));
+        Assert.assertEquals(-1, requestContext.getInt("empty", -1));
+        Assert.assertEquals(-1, requestContext.getInt("text", -1));
+    }
+
+    @Test
+    public void testGetHttpSessionDoesNotCreateSession() {
+        Assert.assertNull(requestContext.getHttpSession());
+        verify(req).getSession(false);
+        verify(req, never()).getSession();
+
+        HttpSession session = mock(HttpSession.class);
+        when(req.getSession()).thenReturn(session);
+        Assert.assertSame(session, requestContext.createHttpSession());
+    }
+
+    @Test
+    public void testParamMapIsBuiltOnce() {
+        Map<String, String> paramMap = requestContext.getParamMap();
+        Assert.assertSame(paramMap, requestContext.getParamMap());
+        Assert.assertEquals("25", paramMap.get("countPlaces"));
+        verify(req, times(1)).getParameterMap();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testParamMapIsReadOnly() {
+        requestContext.getParamMap().put("id", "4");
+    }
+
+    @Test
+    public void testParamListContainsAllValues() {
+        Assert.assertEquals(Arrays.asList("edit-faculty", "3", "25", "30"), requestContext.getParamList());
+        Assert.assertSame(requestContext.getParamList(), requestContext.getParamList());
+    }
+}
@@ -0,0 +1,44 @@
+package com.epam.jwd.controller.command.impl;
+
+import com.epam.jwd.context.PathToPages;
+import com.epam.jwd.controller.command.RequestContext;
+import com.epam.jwd.controller.command.ResponseContext;
+import com.epam.jwd.entity.UserCriteria;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import javax.servlet.http.HttpSession;
+
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FindUsersByCriteriaCommandTest {
+
+    @Test
+    public void testOnlyCriteriaIsStoredInSession() {
+        RequestContext requestContext = mock(RequestContext.class);
+        HttpSession session = mock(HttpSession.class);
+        when(requestContext.getHttpSession()).thenReturn(session);
+        when(requestContext.getString(anyString())).thenReturn("");
+        when(requestContext.getString("userLogin")).thenReturn("test");
+        when(requestContext.getString("userFacultyId")).thenReturn("2");
+        when(requestContext.getInt("userFacultyId", 0)).thenReturn(2);
+
+        ResponseContext responseContext = new FindUsersByCriteriaCommand().execute(requestContext);
+
+        Assert.assertEquals(PathToPages.FIND_USERS_BY_CRITERIA_REDIRECT, responseContext.getPage());
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(session).setAttribute(eq("searchCriteria"), captor.capture());
+        verify(session, never()).setAttribute(eq("usersByCriteria"), captor.capture());
+        UserCriteria criteria = (UserCriteria) captor.getValue();
+        Assert.assertEquals("test", criteria.getLogin());
+        Assert.assertEquals(2, criteria.getFacultyId());
+        Assert.assertNull(criteria.getEmail());
+        Assert.assertEquals(0, criteria.getId());
+    }
+}
@@ -34,7 +34,7 @@ public class ShowAllUsersPageCommandTest {
         requestContext = mock(RequestContext.class);
         session = mock(HttpSession.class);
         command = CommandFactory.getCommand("admin/all-users");
-        when(req.getSession()).thenReturn(session);
+        when(req.getSession(false)).thenReturn(session);
     }
 
     @Test
@@ -0,0 +1,74 @@
+package com.epam.jwd.controller.command.impl;
+
+import com.epam.jwd.controller.command.RequestContext;
+import com.epam.jwd.controller.command.ResponseContext;
+import com.epam.jwd.entity.EnrolledListSnapshot;
+import com.epam.jwd.entity.User;
+import com.epam.jwd.entity.UserBuilder;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.servlet.http.HttpSession;
+import java.util.Collections;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ShowEnrolledListCommandETagTest {
+
+    private static final String FMT_LOCALE_SESSION = "javax.servlet.jsp.jstl.fmt.locale.session";
+
+    HttpSession session;
+    ShowEnrolledListCommand command;
+
+    @Before
+    public void setUp() {
+        session = mock(HttpSession.class);
+        when(session.getAttribute("user")).thenReturn(new User(new UserBuilder().setId(5).setLogin("user")));
+        EnrolledListSnapshot snapshot = new EnrolledListSnapshot(1, "abc-1", Collections.emptyList());
+        command = new ShowEnrolledListCommand(() -> snapshot);
+    }
+
+    private ResponseContext execute(String ifNoneMatch) {
+        RequestContext requestContext = mock(RequestContext.class);
+        when(requestContext.getHttpSession()).thenReturn(session);
+        when(requestContext.getHeader("If-None-Match")).thenReturn(ifNoneMatch);
+        when(requestContext.getHeader("Accept-Language")).thenReturn("en-US,en;q=0.9");
+        return command.execute(requestContext);
+    }
+
+    @Test
+    public void testSameLanguageAndUserIsNotModified() {
+        when(session.getAttribute(FMT_LOCALE_SESSION)).thenReturn("en_US");
+        String eTag = execute(null).getHeaders().get("ETag");
+        ResponseContext responseContext = execute(eTag);
+        Assert.assertEquals(ResponseContext.ResponseType.NOT_MODIFIED, responseContext.getResponseType());
+    }
+
+    @Test
+    public void testLanguageSwitchedOnAnotherPageRendersPageAgain() {
+        when(session.getAttribute(FMT_LOCALE_SESSION)).thenReturn("en_US");
+        String eTag = execute(null).getHeaders().get("ETag");
+
+        // language.jsp of another page set locale, its "current" attribute is null again
+        when(session.getAttribute("current")).thenReturn(null);
+        when(session.getAttribute(FMT_LOCALE_SESSION)).thenReturn("ru_RU");
+        ResponseContext responseContext = execute(eTag);
+
+        Assert.assertEquals(ResponseContext.ResponseType.FORWARD, responseContext.getResponseType());
+        Assert.assertNotEquals(eTag, responseContext.getHeaders().get("ETag"));
+    }
+
+    @Test
+    public void testAnotherUserGetsAnotherETag() {
+        when(session.getAttribute(FMT_LOCALE_SESSION)).thenReturn("en_US");
+        String eTag = execute(null).getHeaders().get("ETag");
+
+        when(session.getAttribute("user")).thenReturn(new User(new UserBuilder().setId(6).setLogin("other")));
+        ResponseContext responseContext = execute(eTag);
+
+        Assert.assertEquals(ResponseContext.ResponseType.FORWARD, responseContext.getResponseType());
+        Assert.assertNotEquals(eTag, responseContext.getHeaders().get("ETag"));
+    }
+}
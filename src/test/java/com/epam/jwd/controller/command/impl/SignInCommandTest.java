@@ -38,7 +38,7 @@ public class SignInCommandTest {
 
     @Test
     public void testExecuteThatReturnAdminCabinetRedirect() {
-        when(req.getSession()).thenReturn(session);
+        when(req.getSession(false)).thenReturn(session);
         when(session.getAttribute("user")).thenReturn(AdminConfiguration.getInstance().getAdmin());
         final ResponseContext responseContext = command.execute(new CustomRequestContext(req));
         Assert.assertEquals(responseContext.getPage(), PathToPages.ADMIN_CABINET_REDIRECT);
@@ -46,7 +46,7 @@ public class SignInCommandTest {
 
     @Test
     public void testExecuteThatReturnUserCabinetRedirect() {
-        when(req.getSession()).thenReturn(session);
+        when(req.getSession(false)).thenReturn(session);
         when(session.getAttribute("user")).thenReturn(new User(new UserBuilder()
                 .setLogin("Test1111")
                 .setPassword("Test1111")));
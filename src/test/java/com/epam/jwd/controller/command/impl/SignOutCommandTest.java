@@ -35,7 +35,7 @@ public class SignOutCommandTest {
 
     @Test
     public void testExecuteThatReturnHomeRedirect() {
-        when(req.getSession()).thenReturn(session);
+        when(req.getSession(false)).thenReturn(session);
         final ResponseContext responseContext = command.execute(new CustomRequestContext(req));
         Assert.assertEquals(responseContext.getPage(), PathToPages.HOME_REDIRECT);
     }
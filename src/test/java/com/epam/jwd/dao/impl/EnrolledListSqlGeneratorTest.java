@@ -0,0 +1,158 @@
+package com.epam.jwd.dao.impl;
+
+import com.epam.jwd.entity.EnumFaculty;
+import com.epam.jwd.entity.EnumUserStatus;
+import com.epam.jwd.entity.Faculty;
+import com.epam.jwd.entity.User;
+import com.epam.jwd.entity.UserBuilder;
+import com.epam.jwd.service.EnrolledListRanker;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class EnrolledListSqlGeneratorTest {
+
+    private static final int USER_COUNT = 300;
+
+    Connection connection;
+    List<User> userList;
+    List<Faculty> facultyList;
+
+    @Before
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:enrolled;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE app_user (id INT PRIMARY KEY, login VARCHAR(45), status_id INT)");
+            statement.execute("CREATE TABLE faculty_type (id INT PRIMARY KEY, name VARCHAR(45), count_places INT)");
+            statement.execute("CREATE TABLE registered_faculty (user_id INT, faculty_id INT)");
+            statement.execute("CREATE TABLE user_certificate (average_score INT, russian_score INT, " +
+                    "math_score INT, physics_score INT, user_id INT)");
+            statement.execute("CREATE TABLE user_enrolled (user_id INT, sum_score INT)");
+        }
+        facultyList = Arrays.asList(
+                new Faculty(EnumFaculty.FCSN, 25),
+                new Faculty(EnumFaculty.FITC, 7),
+                new Faculty(EnumFaculty.FCAD, 0),
+                new Faculty(EnumFaculty.FRE, 200));
+        try (PreparedStatement preparedStatement =
+                     connection.prepareStatement("INSERT INTO faculty_type VALUES (?,?,?)")) {
+            for (Faculty faculty : facultyList) {
+                preparedStatement.setInt(1, faculty.getType().getId());
+                preparedStatement.setString(2, faculty.getType().name());
+                preparedStatement.setInt(3, faculty.getCountPlaces());
+                preparedStatement.executeUpdate();
+            }
+        }
+        userList = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 1; i <= USER_COUNT; i++) {
+            User user = new User(new UserBuilder()
+                    .setLogin("user" + i)
+                    .setFacultyId(1 + random.nextInt(facultyList.size()))
+                    .setAverageScore(95 + random.nextInt(3))
+                    .setRussianExamScore(95 + random.nextInt(3))
+                    .setMathExamScore(95 + random.nextInt(3))
+                    .setPhysicsExamScore(95 + random.nextInt(3))
+                    .setUserStatus(EnumUserStatus.NO_ENROLLED));
+            user.setId(i);
+            userList.add(user);
+            insertUser(user);
+        }
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    private void insertUser(User user) throws SQLException {
+        try (PreparedStatement userStatement = connection.prepareStatement("INSERT INTO app_user VALUES (?,?,?)");
+             PreparedStatement facultyStatement = connection.prepareStatement("INSERT INTO registered_faculty VALUES (?,?)");
+             PreparedStatement certificateStatement =
+                     connection.prepareStatement("INSERT INTO user_certificate VALUES (?,?,?,?,?)")
+        ) {
+            userStatement.setInt(1, user.getId());
+            userStatement.setString(2, user.getLogin());
+            userStatement.setInt(3, user.getUserStatus().getId());
+            userStatement.executeUpdate();
+            facultyStatement.setInt(1, user.getId());
+            facultyStatement.setInt(2, user.getFacultyId());
+            facultyStatement.executeUpdate();
+            certificateStatement.setInt(1, user.getAverageScore());
+            certificateStatement.setInt(2, user.getRussianExamScore());
+            certificateStatement.setInt(3, user.getMathExamScore());
+            certificateStatement.setInt(4, user.getPhysicsExamScore());
+            certificateStatement.setInt(5, user.getId());
+            certificateStatement.executeUpdate();
+        }
+    }
+
+    private List<String> selectEnrolledFromDatabase() throws SQLException {
+        List<String> result = new ArrayList<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(
+                "SELECT ue.user_id, ue.sum_score FROM user_enrolled ue " +
+                        "JOIN registered_faculty rf ON ue.user_id = rf.user_id " +
+                        "JOIN user_certificate uc ON ue.user_id = uc.user_id " +
+                        "ORDER BY rf.faculty_id, ue.sum_score DESC, uc.math_score DESC, uc.physics_score DESC, " +
+                        "uc.russian_score DESC, uc.average_score DESC, ue.user_id");
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                result.add(resultSet.getInt(1) + ":" + resultSet.getInt(2));
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testSqlAndJavaEnginesGiveIdenticalList() throws SQLException {
+        for (User user : userList) {
+            user.setSumExams(user.getAverageScore() + user.getRussianExamScore()
+                    + user.getMathExamScore() + user.getPhysicsExamScore());
+        }
+        List<String> expected = EnrolledListRanker.getInstance()
+                .rank(userList, facultyList)
+                .stream()
+                .map(user -> user.getId() + ":" + user.getSumExams())
+                .collect(Collectors.toList());
+
+        int[] counts = EnrolledListSqlGenerator.getInstance().generate(connection);
+
+        Assert.assertEquals(expected, selectEnrolledFromDatabase());
+        Assert.assertEquals(USER_COUNT, counts[0]);
+        Assert.assertEquals(expected.size(), counts[1]);
+    }
+
+    @Test
+    public void testStatusesAreUpdated() throws SQLException {
+        int[] counts = EnrolledListSqlGenerator.getInstance().generate(connection);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(
+                "SELECT COUNT(*) FROM app_user WHERE status_id = ?")) {
+            preparedStatement.setInt(1, EnumUserStatus.ENROLLED.getId());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                Assert.assertEquals(counts[1], resultSet.getInt(1));
+            }
+            preparedStatement.setInt(1, EnumUserStatus.NO_ENROLLED.getId());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                Assert.assertEquals(USER_COUNT - counts[1], resultSet.getInt(1));
+            }
+        }
+    }
+}
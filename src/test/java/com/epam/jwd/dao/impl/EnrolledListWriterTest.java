@@ -0,0 +1,137 @@
+package com.epam.jwd.dao.impl;
+
+import com.epam.jwd.entity.EnrollmentReport;
+import com.epam.jwd.entity.EnumUserStatus;
+import com.epam.jwd.entity.User;
+import com.epam.jwd.entity.UserBuilder;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+public class EnrolledListWriterTest {
+
+    private static final int USER_COUNT = 23;
+
+    Connection connection;
+    List<User> userList;
+    List<User> enrolledList;
+
+    @Before
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:writer;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE app_user (id INT PRIMARY KEY, status_id INT)");
+            statement.execute("CREATE TABLE user_enrolled (user_id INT PRIMARY KEY, sum_score INT)");
+        }
+        userList = new ArrayList<>();
+        enrolledList = new ArrayList<>();
+        for (int i = 1; i <= USER_COUNT; i++) {
+            User user = new User(new UserBuilder()
+                    .setId(i)
+                    .setLogin("user" + i)
+                    .setUserStatus(i % 4 == 0 ? EnumUserStatus.NO_ENROLLED : EnumUserStatus.ENROLLED));
+            user.setSumExams(i * 3);
+            userList.add(user);
+            if (user.getUserStatus() == EnumUserStatus.ENROLLED) {
+                enrolledList.add(user);
+            }
+        }
+        resetTables();
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    private void resetTables() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM user_enrolled");
+            statement.execute("DELETE FROM app_user");
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO app_user VALUES (?,?)")) {
+            for (User user : userList) {
+                preparedStatement.setInt(1, user.getId());
+                preparedStatement.setInt(2, EnumUserStatus.UNKNOWN.getId());
+                preparedStatement.executeUpdate();
+            }
+        }
+    }
+
+    private List<String> selectRows() throws SQLException {
+        List<String> rows = new ArrayList<>();
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery(
+                    "SELECT user_id, sum_score FROM user_enrolled ORDER BY user_id")) {
+                while (resultSet.next()) {
+                    rows.add("enrolled " + resultSet.getInt(1) + ":" + resultSet.getInt(2));
+                }
+            }
+            try (ResultSet resultSet = statement.executeQuery("SELECT id, status_id FROM app_user ORDER BY id")) {
+                while (resultSet.next()) {
+                    rows.add("status " + resultSet.getInt(1) + ":" + resultSet.getInt(2));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private List<String> expectedRows() {
+        List<String> rows = new ArrayList<>();
+        for (User user : enrolledList) {
+            rows.add("enrolled " + user.getId() + ":" + user.getSumExams());
+        }
+        for (User user : userList) {
+            rows.add("status " + user.getId() + ":" + user.getUserStatus().getId());
+        }
+        return rows;
+    }
+
+    @Test
+    public void testBatchAndMultiRowSaveIdenticalRows() throws SQLException {
+        // 23 users and 18 enrolled: last chunk is shorter, single rows, exact multiple and one chunk
+        for (int batchSize : new int[]{1, 5, 6, 9, 100}) {
+            for (boolean multiRow : new boolean[]{false, true}) {
+                resetTables();
+                EnrollmentReport report = EnrolledListWriter.getInstance()
+                        .save(connection, userList, enrolledList, batchSize, multiRow);
+                String mode = "batchSize " + batchSize + ", multiRow " + multiRow;
+                Assert.assertTrue(mode, report.isCommitted());
+                Assert.assertEquals(mode, USER_COUNT, report.getProcessedUsers());
+                Assert.assertEquals(mode, enrolledList.size(), report.getEnrolledUsers());
+                Assert.assertEquals(mode, expectedRows(), selectRows());
+                Assert.assertTrue(mode, connection.getAutoCommit());
+            }
+        }
+    }
+
+    @Test
+    public void testFailedSaveIsRolledBack() throws SQLException {
+        enrolledList.add(enrolledList.get(0));
+        for (boolean multiRow : new boolean[]{false, true}) {
+            resetTables();
+            List<String> before = selectRows();
+            EnrollmentReport report = EnrolledListWriter.getInstance()
+                    .save(connection, userList, enrolledList, 5, multiRow);
+            String mode = "multiRow " + multiRow;
+            Assert.assertFalse(mode, report.isCommitted());
+            Assert.assertEquals(mode, 0, report.getProcessedUsers());
+            Assert.assertEquals(mode, 0, report.getEnrolledUsers());
+            Assert.assertEquals(mode, before, selectRows());
+            Assert.assertTrue(mode, connection.getAutoCommit());
+        }
+    }
+}
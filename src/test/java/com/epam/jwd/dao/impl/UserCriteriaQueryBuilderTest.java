@@ -0,0 +1,54 @@
+package com.epam.jwd.dao.impl;
+
+import com.epam.jwd.entity.UserCriteria;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class UserCriteriaQueryBuilderTest {
+
+    @Test
+    public void testEmptyCriteria() {
+        UserCriteriaQueryBuilder builder = new UserCriteriaQueryBuilder(UserCriteria.builder().build());
+        Assert.assertEquals("\nORDER BY app_user.id", builder.getSql());
+        Assert.assertEquals(Collections.emptyList(), builder.getParams());
+    }
+
+    @Test
+    public void testOnlyFilledFields() {
+        UserCriteria criteria = UserCriteria.builder()
+                .login("test")
+                .password("HASH")
+                .mathExamScore(90)
+                .facultyId(2)
+                .build();
+        UserCriteriaQueryBuilder builder = new UserCriteriaQueryBuilder(criteria);
+        Assert.assertEquals("\nWHERE app_user.login = BINARY ?" +
+                "\n  AND app_user.password = BINARY ?" +
+                "\n  AND uc.math_score = ?" +
+                "\n  AND rf.faculty_id = ?" +
+                "\nORDER BY app_user.id", builder.getSql());
+        Assert.assertEquals(Arrays.asList("test", "HASH", 90, 2), builder.getParams());
+    }
+
+    @Test
+    public void testLimitAndOffset() throws SQLException {
+        UserCriteriaQueryBuilder builder = new UserCriteriaQueryBuilder(UserCriteria.builder().id(7).build())
+                .setLimit(1)
+                .setOffset(5);
+        Assert.assertEquals("\nWHERE app_user.id = ?\nORDER BY app_user.id\nLIMIT ? OFFSET ?", builder.getSql());
+
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        builder.setParameters(preparedStatement);
+        verify(preparedStatement).setObject(1, 7);
+        verify(preparedStatement).setObject(2, 1);
+        verify(preparedStatement).setObject(3, 5);
+    }
+}
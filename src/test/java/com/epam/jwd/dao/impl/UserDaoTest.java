@@ -5,7 +5,6 @@ import com.epam.jwd.entity.EnumUserRole;
 import com.epam.jwd.entity.User;
 import com.epam.jwd.entity.UserBuilder;
 import com.epam.jwd.exception.ValidatorException;
-import com.epam.jwd.service.UserService;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -36,7 +35,6 @@ public class UserDaoTest {
     @Test
     public void testInsert() throws ValidatorException {
         AppContext.getInstance().init();
-        User.COUNT_ID = UserService.getInstance().getMaxId();
         User user = new User(new UserBuilder()
                 .setLogin("test11")
                 .setPassword("test")
@@ -0,0 +1,83 @@
+package com.epam.jwd.dao.impl;
+
+import com.epam.jwd.entity.EnumUserSort;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class UserPageQueryBuilderTest {
+
+    @Test
+    public void testFirstPage() throws SQLException {
+        UserPageQueryBuilder builder = new UserPageQueryBuilder(0, 20, EnumUserSort.ASC);
+        Assert.assertEquals("\nORDER BY app_user.id\nLIMIT ?", builder.getSql());
+
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        builder.setParameters(preparedStatement);
+        verify(preparedStatement).setInt(1, 21);
+    }
+
+    @Test
+    public void testPageAfterIdDescending() throws SQLException {
+        UserPageQueryBuilder builder = new UserPageQueryBuilder(57, 20, EnumUserSort.DESC);
+        Assert.assertEquals("\nWHERE app_user.id < ?\nORDER BY app_user.id DESC\nLIMIT ?", builder.getSql());
+
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        builder.setParameters(preparedStatement);
+        verify(preparedStatement).setInt(1, 57);
+        verify(preparedStatement).setInt(2, 21);
+    }
+
+    @Test
+    public void testPagesCoverAllRowsOnce() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:page;MODE=MySQL")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE app_user (id INT PRIMARY KEY)");
+                for (int id = 1; id <= 25; id++) {
+                    if (id % 4 != 0) {
+                        statement.execute("INSERT INTO app_user VALUES (" + id + ")");
+                    }
+                }
+            }
+            for (EnumUserSort sort : EnumUserSort.values()) {
+                List<Integer> ids = new ArrayList<>();
+                int afterId = 0;
+                boolean hasNext = true;
+                while (hasNext) {
+                    UserPageQueryBuilder builder = new UserPageQueryBuilder(afterId, 5, sort);
+                    List<Integer> page = new ArrayList<>();
+                    try (PreparedStatement preparedStatement =
+                                 connection.prepareStatement("SELECT app_user.id FROM app_user" + builder.getSql())) {
+                        builder.setParameters(preparedStatement);
+                        ResultSet resultSet = preparedStatement.executeQuery();
+                        while (resultSet.next()) {
+                            page.add(resultSet.getInt(1));
+                        }
+                    }
+                    hasNext = page.size() > 5;
+                    page = hasNext ? page.subList(0, 5) : page;
+                    ids.addAll(page);
+                    afterId = page.get(page.size() - 1);
+                }
+                List<Integer> expected = new ArrayList<>(Arrays.asList(
+                        1, 2, 3, 5, 6, 7, 9, 10, 11, 13, 14, 15, 17, 18, 19, 21, 22, 23, 25));
+                if (sort == EnumUserSort.DESC) {
+                    expected.sort((first, second) -> second - first);
+                }
+                Assert.assertEquals(expected, ids);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.epam.jwd.dao.impl;
+
+import com.epam.jwd.entity.EnumUserSort;
+import com.epam.jwd.entity.User;
+import com.epam.jwd.entity.UserPage;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+public class UserPageReaderTest {
+
+    private static final int USER_COUNT = 17;
+
+    Connection connection;
+    List<Integer> registeredIds;
+
+    @Before
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:reader;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        registeredIds = new ArrayList<>();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE app_user (id INT PRIMARY KEY, login VARCHAR(45), password VARCHAR(255),"
+                    + " firstname VARCHAR(45), lastname VARCHAR(45), email VARCHAR(45), role_id INT, status_id INT)");
+            statement.execute("CREATE TABLE registered_faculty (user_id INT PRIMARY KEY, faculty_id INT)");
+            statement.execute("CREATE TABLE user_certificate (user_id INT PRIMARY KEY, average_score INT,"
+                    + " russian_score INT, math_score INT, physics_score INT)");
+            for (int id = 1; id <= USER_COUNT; id++) {
+                statement.execute("INSERT INTO app_user VALUES (" + id + ", 'user" + id + "', 'hash', 'first',"
+                        + " 'last', 'user" + id + "@test.com', 2, 1)");
+                // admin and users, who didn't finish sign up, have no faculty or certificate
+                if (id % 3 != 0) {
+                    statement.execute("INSERT INTO registered_faculty VALUES (" + id + ", " + (id % 4 + 1) + ")");
+                }
+                if (id % 5 != 0) {
+                    statement.execute("INSERT INTO user_certificate VALUES (" + id + ", 80, 70, 60, 50)");
+                }
+                if (id % 3 != 0 && id % 5 != 0) {
+                    registeredIds.add(id);
+                }
+            }
+        }
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    public void testPagesFollowNextAfterIdAndCountJoinedUsers() throws SQLException {
+        for (EnumUserSort sort : EnumUserSort.values()) {
+            List<Integer> ids = new ArrayList<>();
+            int afterId = 0;
+            UserPage page;
+            do {
+                page = UserPageReader.getInstance().read(connection, afterId, 4, sort);
+                Assert.assertEquals(registeredIds.size(), page.getTotalCount());
+                Assert.assertTrue(page.getUsers().size() <= 4);
+                for (User user : page.getUsers()) {
+                    ids.add(user.getId());
+                }
+                Assert.assertEquals(afterId, page.getAfterId());
+                afterId = page.getNextAfterId();
+            } while (page.isHasNext());
+
+            List<Integer> expected = new ArrayList<>(registeredIds);
+            if (sort == EnumUserSort.DESC) {
+                expected.sort((first, second) -> second - first);
+            }
+            Assert.assertEquals(expected, ids);
+        }
+    }
+
+    @Test
+    public void testLastPageKeepsAfterIdAsNext() throws SQLException {
+        int lastId = registeredIds.get(registeredIds.size() - 1);
+        UserPage page = UserPageReader.getInstance().read(connection, lastId, 4, EnumUserSort.ASC);
+        Assert.assertTrue(page.getUsers().isEmpty());
+        Assert.assertFalse(page.isHasNext());
+        Assert.assertEquals(lastId, page.getNextAfterId());
+        Assert.assertEquals(registeredIds.size(), page.getTotalCount());
+    }
+}
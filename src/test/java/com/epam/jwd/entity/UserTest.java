@@ -101,6 +101,15 @@ public class UserTest {
         Assert.assertEquals(user.getId(), 2);
     }
 
+    @Test
+    public void testIdIsTakenFromBuilder() {
+        User first = new User(new UserBuilder().setLogin("first"));
+        User second = new User(new UserBuilder().setLogin("second").setId(7));
+        Assert.assertEquals(0, first.getId());
+        Assert.assertEquals(7, second.getId());
+        Assert.assertEquals(1, user.getId());
+    }
+
     @Test
     public void getSumExams() {
         user.setSumExams(400);
@@ -0,0 +1,76 @@
+package com.epam.jwd.filter;
+
+import com.epam.jwd.context.PathToPages;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.IOException;
+
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LoginFilterSessionTest {
+
+    HttpServletRequest req;
+    HttpServletResponse resp;
+    FilterChain filterChain;
+
+    @Before
+    public void setUp() {
+        req = mock(HttpServletRequest.class);
+        resp = mock(HttpServletResponse.class);
+        filterChain = mock(FilterChain.class);
+    }
+
+    @Test
+    public void testStaticResourceSkipsSessionAndParameters() throws IOException, ServletException {
+        when(req.getServletPath()).thenReturn("/img/BGUIR-logo.png");
+        new LoginFilter().doFilter(req, resp, filterChain);
+        verify(filterChain).doFilter(req, resp);
+        verify(req, never()).getSession();
+        verify(req, never()).getSession(anyBoolean());
+        verify(req, never()).getParameter(anyString());
+    }
+
+    @Test
+    public void testAnonymousRequestDoesNotCreateSession() throws IOException, ServletException {
+        when(req.getServletPath()).thenReturn("/home");
+        new LoginFilter().doFilter(req, resp, filterChain);
+        verify(req).getSession(false);
+        verify(req, never()).getSession();
+        verify(req, never()).getSession(true);
+        verify(filterChain).doFilter(req, resp);
+    }
+
+    @Test
+    public void testSignedInRequestPassesWithExistingSession() throws IOException, ServletException {
+        HttpSession session = mock(HttpSession.class);
+        when(req.getServletPath()).thenReturn("/home");
+        when(req.getSession(false)).thenReturn(session);
+        new LoginFilter().doFilter(req, resp, filterChain);
+        verify(req, never()).getSession(true);
+        verify(session, never()).setMaxInactiveInterval(1800);
+        verify(filterChain).doFilter(req, resp);
+    }
+
+    @Test
+    public void testNotFoundUserIsRedirectedHome() throws IOException, ServletException {
+        HttpSession session = mock(HttpSession.class);
+        when(req.getServletPath()).thenReturn("/home");
+        when(req.getSession(false)).thenReturn(session);
+        when(session.getAttribute("notFound")).thenReturn(true);
+        new LoginFilter().doFilter(req, resp, filterChain);
+        verify(session).setAttribute("isRedirectHome", true);
+        verify(resp).sendRedirect(PathToPages.HOME_REDIRECT);
+        verify(filterChain, never()).doFilter(req, resp);
+    }
+}
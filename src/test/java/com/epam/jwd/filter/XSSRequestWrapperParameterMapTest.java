@@ -0,0 +1,65 @@
+package com.epam.jwd.filter;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class XSSRequestWrapperParameterMapTest {
+
+    HttpServletRequest req;
+    XSSRequestWrapper wrapper;
+
+    @Before
+    public void setUp() {
+        Map<String, String[]> parameterMap = new LinkedHashMap<>();
+        parameterMap.put("command", new String[]{"sign-up-user"});
+        parameterMap.put("firstname", new String[]{"Maxim<script>alert(1)</script>"});
+        parameterMap.put("facultySelect", new String[]{"1", "javascript:2"});
+        req = mock(HttpServletRequest.class);
+        when(req.getParameterMap()).thenReturn(parameterMap);
+        wrapper = new XSSRequestWrapper(req);
+    }
+
+    @Test
+    public void testParameterMapIsSanitised() {
+        Map<String, String[]> parameterMap = wrapper.getParameterMap();
+        Assert.assertArrayEquals(new String[]{"Maxim"}, parameterMap.get("firstname"));
+        Assert.assertArrayEquals(new String[]{"1", "2"}, parameterMap.get("facultySelect"));
+    }
+
+    @Test
+    public void testAllAccessorsUseOneSanitisedMap() {
+        Assert.assertEquals("Maxim", wrapper.getParameter("firstname"));
+        Assert.assertEquals("Maxim", wrapper.getParameter("firstname"));
+        Assert.assertNull(wrapper.getParameter("absent"));
+        Assert.assertArrayEquals(new String[]{"1", "2"}, wrapper.getParameterValues("facultySelect"));
+        Assert.assertEquals(Arrays.asList("command", "firstname", "facultySelect"),
+                Collections.list(wrapper.getParameterNames()));
+        Assert.assertSame(wrapper.getParameterMap(), wrapper.getParameterMap());
+        verify(req, times(1)).getParameterMap();
+        verify(req, never()).getParameter("firstname");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testParameterMapIsReadOnly() {
+        wrapper.getParameterMap().put("login", new String[]{"admin"});
+    }
+
+    @Test
+    public void testParameterValuesCanNotChangeMap() {
+        wrapper.getParameterValues("facultySelect")[0] = "4";
+        Assert.assertEquals("1", wrapper.getParameter("facultySelect"));
+    }
+}
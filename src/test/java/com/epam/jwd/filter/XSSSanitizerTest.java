@@ -0,0 +1,83 @@
+package com.epam.jwd.filter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+public class XSSSanitizerTest {
+
+    XSSSanitizer xssSanitizer = XSSSanitizer.getInstance();
+
+    private static final Pattern[] legacyPatterns = new Pattern[]{
+            Pattern.compile("<script>(.*?)</script>", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("src[\r\n]*=[\r\n]*\\\'(.*?)\\\'", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("src[\r\n]*=[\r\n]*\\\"(.*?)\\\"", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("</script>", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("<script(.*?)>", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("eval\\((.*?)\\)", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("expression\\((.*?)\\)", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL),
+            Pattern.compile("javascript:", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("vbscript:", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("onload(.*?)=", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE | Pattern.DOTALL)
+    };
+
+    private static final List<String> FRAGMENTS = Arrays.asList("<script>", "</script>", "<SCRIPT", "alert(1)", "src",
+            "SRC", "=", "'", "\"", "\r\n", "eval(", "EvAl", "(", ")", "expression(", "javascript:", "VBScript:",
+            "onload", "OnLoad", "\0", "ev", "al", "scr", "ipt", "<", ">", " ", "Maxim", "Семенко", "1", "@gmail.com");
+
+    private static String legacyStripXSS(String value) {
+        if (value != null) {
+            value = value.replaceAll("\0", "");
+            for (Pattern scriptPattern : legacyPatterns) {
+                value = scriptPattern.matcher(value).replaceAll("");
+            }
+        }
+        return value;
+    }
+
+    @Test
+    public void testStripXSS() {
+        String input = "\"<script>\", \"<script>alert(‘XSS’)</script>\", \"<script>alert(document.cookie)</script>\"";
+        Assert.assertEquals("\"\", \"\"", xssSanitizer.strip(input));
+    }
+
+    @Test
+    public void testSafeValueIsReturnedAsIs() {
+        String value = "Maxim Semenko, maxim@gmail.com, 95 (math) = ok";
+        Assert.assertSame(value, xssSanitizer.strip(value));
+        Assert.assertNull(xssSanitizer.strip(null));
+    }
+
+    @Test
+    public void testOutputIsIdenticalToLegacyChain() {
+        Random random = new Random(13);
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder builder = new StringBuilder();
+            int count = random.nextInt(12);
+            for (int j = 0; j < count; j++) {
+                builder.append(FRAGMENTS.get(random.nextInt(FRAGMENTS.size())));
+            }
+            String value = builder.toString();
+            Assert.assertEquals(value, legacyStripXSS(value), xssSanitizer.strip(value));
+        }
+    }
+
+    @Test
+    public void testValueWithoutPatternsIsNotSuspicious() {
+        Random random = new Random(17);
+        for (int i = 0; i < 20000; i++) {
+            char[] chars = new char[random.nextInt(20)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = (char) random.nextInt(128);
+            }
+            String value = new String(chars);
+            if (!value.equals(legacyStripXSS(value))) {
+                Assert.assertTrue(value, xssSanitizer.isSuspicious(value));
+            }
+        }
+    }
+}
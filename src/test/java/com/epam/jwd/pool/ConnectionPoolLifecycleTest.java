@@ -0,0 +1,101 @@
+package com.epam.jwd.pool;
+
+import com.epam.jwd.exception.ConnectionPoolException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ConnectionPoolLifecycleTest {
+
+    ConnectionPool connectionPool;
+
+    @After
+    public void tearDown() {
+        if (connectionPool != null) {
+            connectionPool.close();
+        }
+    }
+
+    private ConnectionPool createPool(int minSize, int maxSize, long timeout, long leakThreshold) {
+        connectionPool = new ConnectionPool(() -> {
+            Connection connection = mock(Connection.class);
+            when(connection.isValid(1)).thenReturn(true);
+            return connection;
+        }, minSize, maxSize, timeout, 1000, leakThreshold, 0);
+        connectionPool.start();
+        return connectionPool;
+    }
+
+    @Test
+    public void testStartCreatesMinConnections() {
+        createPool(2, 5, 100, 0);
+        Assert.assertEquals(2, connectionPool.getTotalConnections());
+        Assert.assertEquals(2, connectionPool.getAvailableConnections());
+    }
+
+    @Test
+    public void testGrowsLazilyUpToMax() throws InterruptedException {
+        createPool(1, 3, 100, 0);
+        connectionPool.getConnection();
+        connectionPool.getConnection();
+        connectionPool.getConnection();
+        Assert.assertEquals(3, connectionPool.getTotalConnections());
+        Assert.assertEquals(3, connectionPool.getActiveConnections());
+        Assert.assertEquals(0, connectionPool.getAvailableConnections());
+    }
+
+    @Test
+    public void testTimeoutWhenPoolIsExhausted() throws InterruptedException {
+        createPool(1, 1, 50, 0);
+        connectionPool.getConnection();
+        try {
+            connectionPool.getConnection();
+            Assert.fail();
+        } catch (ConnectionPoolException e) {
+            Assert.assertEquals(1, connectionPool.getTimeoutCount());
+            Assert.assertEquals(0, connectionPool.getWaitingThreads());
+        }
+    }
+
+    @Test
+    public void testReleasedConnectionIsReused() throws InterruptedException {
+        createPool(1, 1, 50, 0);
+        Connection connection = connectionPool.getConnection();
+        connectionPool.releaseConnection(connection);
+        Assert.assertSame(connection, connectionPool.getConnection());
+        Assert.assertEquals(1, connectionPool.getTotalConnections());
+    }
+
+    @Test
+    public void testBrokenConnectionIsReplaced() throws InterruptedException, SQLException {
+        Connection broken = mock(Connection.class);
+        when(broken.isValid(1)).thenReturn(false);
+        Connection alive = mock(Connection.class);
+        when(alive.isValid(1)).thenReturn(true);
+        Connection[] connections = {broken, alive};
+        int[] created = {0};
+        connectionPool = new ConnectionPool(() -> connections[created[0]++], 1, 1, 100, 1000, 0, 0);
+        connectionPool.start();
+        Thread.sleep(600);
+
+        Assert.assertSame(alive, connectionPool.getConnection());
+        verify(broken).close();
+        Assert.assertEquals(1, connectionPool.getTotalConnections());
+    }
+
+    @Test
+    public void testLeakDetection() throws InterruptedException {
+        createPool(1, 1, 50, 10);
+        connectionPool.getConnection();
+        Thread.sleep(30);
+        connectionPool.detectLeaks();
+        Assert.assertEquals(1, connectionPool.getLeakCount());
+    }
+}
@@ -0,0 +1,75 @@
+package com.epam.jwd.pool;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PooledConnectionTest {
+
+    Connection physical;
+    PreparedStatement statement1;
+    PreparedStatement statement2;
+    AtomicLong hits;
+    AtomicLong misses;
+    Connection connection;
+
+    @Before
+    public void setUp() throws SQLException {
+        physical = mock(Connection.class);
+        statement1 = mock(PreparedStatement.class);
+        statement2 = mock(PreparedStatement.class);
+        when(physical.prepareStatement("SQL1")).thenReturn(statement1);
+        when(physical.prepareStatement("SQL2")).thenReturn(statement2);
+        hits = new AtomicLong();
+        misses = new AtomicLong();
+        connection = new PooledConnection(physical, 1, hits, misses).getProxy();
+    }
+
+    @Test
+    public void testStatementIsReusedAfterClose() throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SQL1")) {
+            preparedStatement.setInt(1, 1);
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SQL1")) {
+            preparedStatement.setInt(1, 2);
+        }
+        verify(physical, times(1)).prepareStatement("SQL1");
+        verify(statement1, never()).close();
+        verify(statement1, times(2)).clearParameters();
+        Assert.assertEquals(1, hits.get());
+        Assert.assertEquals(1, misses.get());
+    }
+
+    @Test
+    public void testEvictedStatementIsClosed() throws SQLException {
+        connection.prepareStatement("SQL1").close();
+        connection.prepareStatement("SQL2").close();
+        verify(statement1).close();
+        verify(statement2, never()).close();
+    }
+
+    @Test
+    public void testCloseConnectionClosesStatements() throws SQLException {
+        connection.prepareStatement("SQL1").close();
+        connection.close();
+        verify(statement1).close();
+        verify(physical).close();
+    }
+
+    @Test
+    public void testProxyIdentity() {
+        Assert.assertEquals(connection, connection);
+        Assert.assertEquals(System.identityHashCode(connection), connection.hashCode());
+    }
+}
@@ -0,0 +1,86 @@
+package com.epam.jwd.service;
+
+import com.epam.jwd.entity.EnrolledListSnapshot;
+import com.epam.jwd.entity.EnumFaculty;
+import com.epam.jwd.entity.User;
+import com.epam.jwd.entity.UserBuilder;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class EnrolledListCacheTest {
+
+    AtomicInteger loadCount;
+    List<User> enrolledList;
+    EnrolledListCache cache;
+
+    @Before
+    public void setUp() {
+        loadCount = new AtomicInteger();
+        enrolledList = new ArrayList<>(Arrays.asList(createUser(1, 1), createUser(2, 4), createUser(3, 1)));
+        cache = new EnrolledListCache(() -> {
+            loadCount.incrementAndGet();
+            return enrolledList;
+        });
+    }
+
+    private User createUser(int id, int facultyId) {
+        User user = new User(new UserBuilder().setFacultyId(facultyId));
+        user.setId(id);
+        return user;
+    }
+
+    @Test
+    public void testSnapshotIsLoadedOnce() {
+        EnrolledListSnapshot snapshot = cache.get();
+        Assert.assertSame(snapshot, cache.get());
+        Assert.assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void testSnapshotIsGroupedByFaculty() {
+        EnrolledListSnapshot snapshot = cache.get();
+        Assert.assertEquals(Arrays.asList(enrolledList.get(0), enrolledList.get(2)),
+                snapshot.getUsersByFaculty().get(EnumFaculty.FCSN));
+        Assert.assertEquals(1, snapshot.getUsersByFaculty().get(EnumFaculty.FRE).size());
+        Assert.assertTrue(snapshot.getUsersByFaculty().get(EnumFaculty.FITC).isEmpty());
+    }
+
+    @Test
+    public void testSnapshotIsImmutable() {
+        EnrolledListSnapshot snapshot = cache.get();
+        enrolledList.clear();
+        Assert.assertEquals(3, snapshot.getUsers().size());
+        try {
+            snapshot.getUsers().clear();
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            Assert.assertEquals(3, snapshot.getUsers().size());
+        }
+    }
+
+    @Test
+    public void testRefreshReplacesSnapshotAndETag() {
+        EnrolledListSnapshot old = cache.get();
+        enrolledList.remove(0);
+        EnrolledListSnapshot snapshot = cache.refresh();
+        Assert.assertSame(snapshot, cache.get());
+        Assert.assertEquals(2, snapshot.getUsers().size());
+        Assert.assertEquals(old.getVersion() + 1, snapshot.getVersion());
+        Assert.assertNotEquals(old.getETag(), snapshot.getETag());
+    }
+
+    @Test
+    public void testInvalidateLoadsOnNextRead() {
+        cache.get();
+        cache.invalidate();
+        Assert.assertEquals(1, loadCount.get());
+        cache.get();
+        Assert.assertEquals(2, loadCount.get());
+    }
+}
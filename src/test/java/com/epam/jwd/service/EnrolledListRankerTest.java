@@ -0,0 +1,94 @@
+package com.epam.jwd.service;
+
+import com.epam.jwd.entity.EnumFaculty;
+import com.epam.jwd.entity.Faculty;
+import com.epam.jwd.entity.User;
+import com.epam.jwd.entity.UserBuilder;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class EnrolledListRankerTest {
+
+    EnrolledListRanker ranker = EnrolledListRanker.getInstance();
+    List<Faculty> facultyList;
+    List<User> userList;
+
+    @Before
+    public void setUp() {
+        facultyList = Arrays.asList(
+                new Faculty(EnumFaculty.FCSN, 30),
+                new Faculty(EnumFaculty.FITC, 1),
+                new Faculty(EnumFaculty.FCAD, 0),
+                new Faculty(EnumFaculty.FRE, 5000));
+        userList = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 1; i <= 2000; i++) {
+            userList.add(createUser(i, 1 + random.nextInt(4),
+                    90 + random.nextInt(5), 90 + random.nextInt(5),
+                    90 + random.nextInt(5), 90 + random.nextInt(5)));
+        }
+    }
+
+    private User createUser(int id, int facultyId, int average, int russian, int math, int physics) {
+        User user = new User(new UserBuilder()
+                .setFacultyId(facultyId)
+                .setAverageScore(average)
+                .setRussianExamScore(russian)
+                .setMathExamScore(math)
+                .setPhysicsExamScore(physics));
+        user.setId(id);
+        user.setSumExams(average + russian + math + physics);
+        return user;
+    }
+
+    private List<User> rankBySort(List<User> userList) {
+        List<User> sortedList = userList
+                .stream()
+                .sorted(EnrolledListRanker.RANK_ORDER)
+                .collect(Collectors.toList());
+        List<User> enrolledList = new ArrayList<>();
+        for (Faculty faculty : facultyList) {
+            enrolledList.addAll(sortedList
+                    .stream()
+                    .filter(user -> user.getFacultyId() == faculty.getType().getId())
+                    .limit(faculty.getCountPlaces())
+                    .collect(Collectors.toList()));
+        }
+        return enrolledList;
+    }
+
+    @Test
+    public void testRankIsEqualToFullSort() {
+        Assert.assertEquals(rankBySort(userList), ranker.rank(userList, facultyList, false));
+    }
+
+    @Test
+    public void testParallelRankIsEqualToSequential() {
+        Assert.assertEquals(ranker.rank(userList, facultyList, false), ranker.rank(userList, facultyList, true));
+    }
+
+    @Test
+    public void testRankDoesNotDependOnInputOrder() {
+        List<User> shuffledList = new ArrayList<>(userList);
+        Collections.shuffle(shuffledList, new Random(11));
+        Assert.assertEquals(ranker.rank(userList, facultyList, false), ranker.rank(shuffledList, facultyList, false));
+    }
+
+    @Test
+    public void testTieIsBrokenByExamScoresThenId() {
+        User first = createUser(3, 2, 90, 90, 95, 90);
+        User second = createUser(1, 2, 95, 90, 90, 90);
+        User third = createUser(2, 2, 95, 90, 90, 90);
+        List<User> enrolledList = ranker.rank(Arrays.asList(third, second, first),
+                Collections.singletonList(new Faculty(EnumFaculty.FITC, 2)));
+        Assert.assertEquals(Arrays.asList(first, second), enrolledList);
+    }
+}
@@ -0,0 +1,63 @@
+package com.epam.jwd.service;
+
+import com.epam.jwd.entity.EnumFaculty;
+import com.epam.jwd.entity.Faculty;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FacultyCatalogTest {
+
+    AtomicInteger loads;
+    FacultyCatalog catalog;
+
+    @Before
+    public void setUp() {
+        loads = new AtomicInteger();
+        catalog = new FacultyCatalog(() -> {
+            loads.incrementAndGet();
+            return Arrays.asList(new Faculty(EnumFaculty.FRE, 2), new Faculty(EnumFaculty.FCSN, 3),
+                    new Faculty(EnumFaculty.FITC, 3), new Faculty(EnumFaculty.FCAD, 2));
+        });
+    }
+
+    @Test
+    public void testFacultiesAreLoadedOnceInEnumOrder() {
+        List<Faculty> faculties = catalog.getAll();
+        Assert.assertEquals(EnumFaculty.FCSN, faculties.get(0).getType());
+        Assert.assertEquals(EnumFaculty.FRE, faculties.get(3).getType());
+        Assert.assertEquals(2, catalog.get(EnumFaculty.FCAD).getCountPlaces());
+        Assert.assertEquals(3, catalog.get(1).getCountPlaces());
+        Assert.assertNull(catalog.get(5));
+        Assert.assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testReturnedFacultyIsCopy() {
+        catalog.get(EnumFaculty.FCSN).setCountPlaces(100);
+        catalog.getAll().get(0).setCountPlaces(100);
+        Assert.assertEquals(3, catalog.get(EnumFaculty.FCSN).getCountPlaces());
+    }
+
+    @Test
+    public void testReplaceSwapsSnapshotWithoutLoading() {
+        List<Faculty> before = catalog.getAll();
+        catalog.replace(new Faculty(EnumFaculty.FITC, 5));
+        Assert.assertEquals(5, catalog.get(EnumFaculty.FITC).getCountPlaces());
+        Assert.assertEquals(3, catalog.get(EnumFaculty.FCSN).getCountPlaces());
+        Assert.assertEquals(3, before.get(1).getCountPlaces());
+        Assert.assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testRefreshLoadsFacultiesAgain() {
+        catalog.getAll();
+        catalog.refresh();
+        Assert.assertEquals(2, loads.get());
+        Assert.assertEquals(3, catalog.get(EnumFaculty.FITC).getCountPlaces());
+    }
+}
@@ -0,0 +1,63 @@
+package com.epam.jwd.service;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class InMemoryVerificationCodeStoreTest {
+
+    AtomicLong now;
+    InMemoryVerificationCodeStore store;
+
+    @Before
+    public void setUp() {
+        now = new AtomicLong(1000);
+        store = new InMemoryVerificationCodeStore(100, 3, now::get);
+    }
+
+    @Test
+    public void testCodesOfDifferentUsersAreSeparate() {
+        store.put("first", 1111);
+        store.put("second", 2222);
+        Assert.assertFalse(store.verify("first", 2222));
+        Assert.assertTrue(store.verify("second", 2222));
+        Assert.assertTrue(store.verify("first", 1111));
+    }
+
+    @Test
+    public void testCodeCanBeUsedOnce() {
+        store.put("login", 1234);
+        Assert.assertTrue(store.verify("login", 1234));
+        Assert.assertFalse(store.verify("login", 1234));
+    }
+
+    @Test
+    public void testExpiredCodeIsRejected() {
+        store.put("login", 1234);
+        now.addAndGet(100);
+        Assert.assertFalse(store.verify("login", 1234));
+        Assert.assertEquals(0, store.size());
+    }
+
+    @Test
+    public void testCodeIsRemovedAfterMaxAttempts() {
+        store.put("login", 1234);
+        Assert.assertFalse(store.verify("login", 1));
+        Assert.assertFalse(store.verify("login", 2));
+        Assert.assertFalse(store.verify("login", 3));
+        Assert.assertFalse(store.verify("login", 1234));
+    }
+
+    @Test
+    public void testSweepRemovesOnlyExpiredCodes() {
+        store.put("old", 1111);
+        now.addAndGet(50);
+        store.put("new", 2222);
+        now.addAndGet(60);
+        Assert.assertEquals(1, store.sweep());
+        Assert.assertEquals(1, store.size());
+        Assert.assertTrue(store.verify("new", 2222));
+    }
+}
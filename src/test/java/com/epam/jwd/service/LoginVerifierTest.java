@@ -0,0 +1,90 @@
+package com.epam.jwd.service;
+
+import com.epam.jwd.entity.User;
+import com.epam.jwd.entity.UserBuilder;
+import com.epam.jwd.exception.ServiceUnavailableException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class LoginVerifierTest {
+
+    LoginVerifier verifier;
+    ExecutorService callers = Executors.newCachedThreadPool();
+
+    @After
+    public void tearDown() {
+        if (verifier != null) {
+            verifier.shutdown();
+        }
+        callers.shutdownNow();
+    }
+
+    @Test
+    public void testVerifyReturnsResultOfVerification() throws Exception {
+        User user = new User(new UserBuilder().setLogin("login"));
+        verifier = new LoginVerifier((login, password) ->
+                "password".equals(password) ? Optional.of(user) : Optional.empty(), 1, 1, 1000);
+        Assert.assertEquals(Optional.of(user), verifier.verify("login", "password"));
+        Assert.assertEquals(Optional.empty(), verifier.verify("login", "wrong"));
+        Assert.assertEquals(2, verifier.getVerifiedCount());
+        Assert.assertEquals(0, verifier.getRejectedCount());
+    }
+
+    @Test
+    public void testVerifyFailsFastWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        verifier = new LoginVerifier((login, password) -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.empty();
+        }, 1, 1, 5000);
+        callers.submit(() -> verifier.verify("first", "password"));
+        Assert.assertTrue(started.await(1, TimeUnit.SECONDS));
+        callers.submit(() -> verifier.verify("second", "password"));
+        long deadline = System.currentTimeMillis() + 1000;
+        while (verifier.getQueueDepth() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        Assert.assertEquals(1, verifier.getQueueDepth());
+
+        long start = System.nanoTime();
+        try {
+            verifier.verify("third", "password");
+            Assert.fail();
+        } catch (ServiceUnavailableException e) {
+            Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        }
+        Assert.assertEquals(1, verifier.getRejectedCount());
+        release.countDown();
+    }
+
+    @Test(expected = ServiceUnavailableException.class)
+    public void testVerifyFailsAfterTimeout() throws Exception {
+        verifier = new LoginVerifier((login, password) -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.empty();
+        }, 1, 1, 50);
+        verifier.verify("login", "password");
+    }
+
+    @Test
+    public void testShutdownIfCreatedDoesNotCreateVerifier() {
+        LoginVerifier.shutdownIfCreated();
+    }
+}
@@ -0,0 +1,192 @@
+package com.epam.jwd.service;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MailDispatcherTest {
+
+    FakeSmtpServer server;
+    MailDispatcher dispatcher;
+
+    /**
+     * SMTP server in test thread, it accepts all messages and
+     * refuses first connections while failures are left.
+     */
+    static class FakeSmtpServer implements Runnable {
+        final ServerSocket serverSocket;
+        final AtomicInteger connections = new AtomicInteger();
+        final AtomicInteger messages = new AtomicInteger();
+        final AtomicInteger failuresLeft = new AtomicInteger();
+
+        FakeSmtpServer() throws IOException {
+            serverSocket = new ServerSocket(0);
+            Thread thread = new Thread(this, "fake-smtp");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    Thread thread = new Thread(() -> serve(socket));
+                    thread.setDaemon(true);
+                    thread.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(Socket socket) {
+            try (Socket client = socket;
+                 BufferedReader in = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.US_ASCII));
+                 PrintWriter out = new PrintWriter(client.getOutputStream(), true)) {
+                if (failuresLeft.getAndDecrement() > 0) {
+                    out.print("421 busy\r\n");
+                    out.flush();
+                    return;
+                }
+                connections.incrementAndGet();
+                out.print("220 fake\r\n");
+                out.flush();
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String command = line.toUpperCase();
+                    if (command.startsWith("DATA")) {
+                        out.print("354 go\r\n");
+                        out.flush();
+                        while (!".".equals(in.readLine())) {
+                            // message body is ignored
+                        }
+                        messages.incrementAndGet();
+                        out.print("250 ok\r\n");
+                    } else if (command.startsWith("QUIT")) {
+                        out.print("221 bye\r\n");
+                        out.flush();
+                        return;
+                    } else {
+                        out.print("250 ok\r\n");
+                    }
+                    out.flush();
+                }
+            } catch (IOException e) {
+                // client closed connection
+            }
+        }
+
+        void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        server = new FakeSmtpServer();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (dispatcher != null) {
+            dispatcher.shutdown(1000);
+        }
+        server.close();
+    }
+
+    private MailDispatcher createDispatcher(int workers, int maxAttempts) {
+        Properties properties = new Properties();
+        properties.put("mail.transport.protocol", "smtp");
+        properties.put("mail.smtp.auth", "false");
+        properties.put("mail.smtp.host", "localhost");
+        properties.put("mail.smtp.port", String.valueOf(server.serverSocket.getLocalPort()));
+        properties.put("mail.smtp.connectiontimeout", "2000");
+        properties.put("mail.smtp.timeout", "2000");
+        return new MailDispatcher(Session.getInstance(properties), "user", "password",
+                10, workers, maxAttempts, 10);
+    }
+
+    private Message createMessage(MailDispatcher dispatcher, int number) throws MessagingException {
+        MimeMessage message = new MimeMessage(dispatcher.getSession());
+        message.setFrom(new InternetAddress("from@test.com"));
+        message.addRecipient(Message.RecipientType.TO, new InternetAddress("to" + number + "@test.com"));
+        message.setSubject("Restore password");
+        message.setText("code " + number);
+        return message;
+    }
+
+    private void await(MailDispatcher dispatcher, long sent, long deadLetters) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while ((dispatcher.getSentCount() < sent || dispatcher.getDeadLetterCount() < deadLetters)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void testMessagesReuseOneConnection() throws Exception {
+        dispatcher = createDispatcher(1, 3);
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(dispatcher.enqueue(createMessage(dispatcher, i)));
+        }
+        await(dispatcher, 5, 0);
+        Assert.assertEquals(5, dispatcher.getSentCount());
+        Assert.assertEquals(5, server.messages.get());
+        Assert.assertEquals(1, server.connections.get());
+    }
+
+    @Test
+    public void testFailedMessageIsRetried() throws Exception {
+        server.failuresLeft.set(2);
+        dispatcher = createDispatcher(1, 3);
+        Assert.assertTrue(dispatcher.enqueue(createMessage(dispatcher, 1)));
+        await(dispatcher, 1, 0);
+        Assert.assertEquals(1, dispatcher.getSentCount());
+        Assert.assertEquals(2, dispatcher.getRetryCount());
+        Assert.assertEquals(0, dispatcher.getDeadLetterCount());
+        Assert.assertEquals(1, server.messages.get());
+    }
+
+    @Test
+    public void testMessageGoesToDeadLetterAfterAllAttempts() throws Exception {
+        server.failuresLeft.set(Integer.MAX_VALUE);
+        dispatcher = createDispatcher(1, 3);
+        Assert.assertTrue(dispatcher.enqueue(createMessage(dispatcher, 1)));
+        await(dispatcher, 0, 1);
+        Assert.assertEquals(1, dispatcher.getDeadLetterCount());
+        Assert.assertEquals(2, dispatcher.getRetryCount());
+        Assert.assertEquals(0, dispatcher.getSentCount());
+    }
+
+    @Test
+    public void testShutdownIfCreatedDoesNotCreateDispatcher() {
+        MailDispatcher.shutdownIfCreated(10);
+    }
+
+    @Test
+    public void testEnqueueReturnsFalseWhenQueueIsFull() throws Exception {
+        server.close();
+        dispatcher = new MailDispatcher(Session.getInstance(new Properties()), "user", "password",
+                1, 0, 1, 10);
+        Assert.assertTrue(dispatcher.enqueue(createMessage(dispatcher, 1)));
+        Assert.assertFalse(dispatcher.enqueue(createMessage(dispatcher, 2)));
+        Assert.assertEquals(1, dispatcher.getQueueSize());
+    }
+}
@@ -3,6 +3,9 @@ package com.epam.jwd.service;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
 public class PasswordSecurityServiceTest {
 
     PasswordSecurityService service = PasswordSecurityService.getInstance();
@@ -17,4 +20,58 @@ public class PasswordSecurityServiceTest {
         String password = service.doHashing("12345678");
         Assert.assertEquals(password, "25D55AD283AA400AF464C76D713C07AD");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testBCryptHashIsSaltedAndMatches() {
+        PasswordSecurityService bcrypt = new PasswordSecurityService(new BCryptPasswordHasher(4));
+        String first = bcrypt.hash("12345678");
+        String second = bcrypt.hash("12345678");
+        Assert.assertTrue(first.startsWith("$2a$04$"));
+        Assert.assertNotEquals(first, second);
+        Assert.assertTrue(bcrypt.matches("12345678", first));
+        Assert.assertFalse(bcrypt.matches("87654321", first));
+        Assert.assertFalse(bcrypt.needsRehash(first));
+    }
+
+    @Test
+    public void testPbkdf2HashMatches() {
+        PasswordSecurityService pbkdf2 = new PasswordSecurityService(new Pbkdf2PasswordHasher(1000));
+        String hash = pbkdf2.hash("12345678");
+        Assert.assertTrue(hash.startsWith("$pbkdf2$1000$"));
+        Assert.assertTrue(pbkdf2.matches("12345678", hash));
+        Assert.assertFalse(pbkdf2.matches("87654321", hash));
+        Assert.assertFalse(pbkdf2.needsRehash(hash));
+        Assert.assertTrue(new PasswordSecurityService(new Pbkdf2PasswordHasher(2000)).needsRehash(hash));
+    }
+
+    @Test
+    public void testLegacyHashMatchesAndNeedsRehash() {
+        PasswordSecurityService bcrypt = new PasswordSecurityService(new BCryptPasswordHasher(4));
+        Assert.assertTrue(bcrypt.matches("12345678", "25D55AD283AA400AF464C76D713C07AD"));
+        Assert.assertFalse(bcrypt.matches("87654321", "25D55AD283AA400AF464C76D713C07AD"));
+        Assert.assertTrue(bcrypt.needsRehash("25D55AD283AA400AF464C76D713C07AD"));
+        Assert.assertTrue(bcrypt.needsRehash(new BCryptPasswordHasher(5).hash("12345678")));
+    }
+
+    @Test
+    public void testHashOfOtherAlgorithmIsChecked() {
+        PasswordSecurityService bcrypt = new PasswordSecurityService(new BCryptPasswordHasher(4));
+        String hash = new Pbkdf2PasswordHasher(1000).hash("12345678");
+        Assert.assertTrue(bcrypt.matches("12345678", hash));
+        Assert.assertTrue(bcrypt.needsRehash(hash));
+        Assert.assertFalse(bcrypt.matches("12345678", "unknown"));
+    }
+
+    @Test
+    public void testLegacyHashOfPlatformCharsetMatches() {
+        Charset windows1251 = Charset.forName("windows-1251");
+        String password = "\u043f\u0430\u0440\u043e\u043b\u044c123";
+        String platformHash = new Md5PasswordHasher(windows1251).hash(password);
+        String utf8Hash = new Md5PasswordHasher(StandardCharsets.UTF_8).hash(password);
+        Assert.assertNotEquals(platformHash, utf8Hash);
+        Assert.assertTrue(new Md5PasswordHasher(windows1251).matches(password, platformHash));
+        Assert.assertTrue(new Md5PasswordHasher(windows1251).matches(password, utf8Hash));
+        Assert.assertFalse(new Md5PasswordHasher(StandardCharsets.UTF_8).matches(password, platformHash));
+        Assert.assertFalse(new Md5PasswordHasher(windows1251).matches("\u043f\u0430\u0440\u043e\u043b\u044c124", platformHash));
+    }
+}
@@ -0,0 +1,107 @@
+package com.epam.jwd.service;
+
+import com.epam.jwd.entity.User;
+import com.epam.jwd.entity.UserBuilder;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class UserCacheTest {
+
+    AtomicLong now;
+    AtomicInteger loads;
+    Map<Integer, User> database;
+    UserCache cache;
+
+    @Before
+    public void setUp() {
+        now = new AtomicLong(1000);
+        loads = new AtomicInteger();
+        database = new HashMap<>();
+        for (int id = 1; id <= 3; id++) {
+            User user = new User(new UserBuilder().setLogin("user" + id).setEmail("user" + id + "@test.com"));
+            user.setId(id);
+            database.put(id, user);
+        }
+        cache = new UserCache(id -> {
+            loads.incrementAndGet();
+            User user = database.get(id);
+            return user == null ? null : user.copy();
+        }, login -> {
+            loads.incrementAndGet();
+            return database.values().stream()
+                    .filter(user -> user.getLogin().equals(login))
+                    .findFirst()
+                    .map(User::copy)
+                    .orElse(null);
+        }, 2, 100, now::get);
+    }
+
+    @Test
+    public void testUserIsLoadedOnceByIdAndLogin() {
+        Assert.assertEquals("user1", cache.getById(1).getLogin());
+        Assert.assertEquals(1, cache.getByLogin("user1").getId());
+        Assert.assertEquals("user1", cache.getById(1).getLogin());
+        Assert.assertEquals(1, loads.get());
+        Assert.assertEquals(2, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testReturnedUserIsCopy() {
+        cache.getById(1).setEmail("changed@test.com");
+        Assert.assertEquals("user1@test.com", cache.getById(1).getEmail());
+    }
+
+    @Test
+    public void testExpiredUserIsLoadedAgain() {
+        cache.getById(1);
+        now.addAndGet(100);
+        cache.getById(1);
+        Assert.assertEquals(2, loads.get());
+        Assert.assertEquals(1, cache.getExpirationCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedUserIsEvicted() {
+        cache.getById(1);
+        cache.getById(2);
+        cache.getById(1);
+        cache.getById(3);
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(1, cache.getEvictionCount());
+        cache.getByLogin("user2");
+        Assert.assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void testChangedLoginIsNotReadAfterInvalidation() {
+        cache.getById(1);
+        database.get(1).setLogin("renamed");
+        cache.invalidate(database.get(1));
+        Assert.assertNull(cache.getByLogin("user1"));
+        Assert.assertEquals("renamed", cache.getByLogin("renamed").getLogin());
+    }
+
+    @Test
+    public void testUserLoadedDuringInvalidationIsNotCached() {
+        UserCache[] racingCache = new UserCache[1];
+        racingCache[0] = new UserCache(id -> {
+            User user = database.get(id).copy();
+            racingCache[0].invalidate(id);
+            return user;
+        }, login -> null, 2, 100, now::get);
+        Assert.assertEquals("user1", racingCache[0].getById(1).getLogin());
+        Assert.assertEquals(0, racingCache[0].size());
+    }
+
+    @Test
+    public void testShutdownIfCreatedDoesNotCreateCache() {
+        UserCache.shutdownIfCreated();
+    }
+}
@@ -151,8 +151,9 @@ public class UserServiceTest {
 
     @Test
     public void testRemoveById() {
-        userService.removeById(User.COUNT_ID);
-        Assert.assertNull(userService.selectById(User.COUNT_ID));
+        int id = userService.getMaxId();
+        userService.removeById(id);
+        Assert.assertNull(userService.selectById(id));
     }
 
     @Test
@@ -162,9 +163,25 @@ public class UserServiceTest {
     }
 
     @Test
-    public void testGetMaxId() {
-        User.COUNT_ID = userService.getMaxId();
-        Assert.assertEquals(userService.getMaxId(), User.COUNT_ID);
+    public void testGetMaxId() throws ValidatorException {
+        String number = String.valueOf((int)(1 + Math.random() * 999999999));
+        User user = new User(new UserBuilder()
+                .setFirstname("Test")
+                .setLastname("Test")
+                .setLogin("test" + number)
+                .setPassword("11111111")
+                .setEmail("test@gmail.com")
+                .setAverageScore(100)
+                .setRussianExamScore(100)
+                .setMathExamScore(100)
+                .setPhysicsExamScore(100)
+                .setFacultyId(1)
+                .setUserStatus(EnumUserStatus.UNKNOWN)
+                .setUserRole(EnumUserRole.CLIENT));
+
+        assertTrue(userService.insert(user));
+        assertTrue(user.getId() > 0);
+        Assert.assertEquals(user.getId(), userService.getMaxId());
     }
 
     @Test
@@ -0,0 +1,15 @@
+package com.epam.jwd.service;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class VerificationCodeStoreFactoryTest {
+
+    @Test
+    public void testStoreFromConfigurationIsShared() {
+        VerificationCodeStore store = VerificationCodeStoreFactory.getStore();
+        Assert.assertSame(store, VerificationCodeStoreFactory.getStore());
+        store.put("factory", 4321);
+        Assert.assertTrue(VerificationCodeStoreFactory.getStore().verify("factory", 4321));
+    }
+}